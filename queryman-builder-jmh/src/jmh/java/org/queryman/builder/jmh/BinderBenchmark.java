@@ -0,0 +1,143 @@
+/*
+ *  Queryman. Java tools for working with queries of PostgreSQL database.
+ *
+ *  License: MIT License
+ *  To see license follow by http://queryman.org/license.txt
+ */
+package org.queryman.builder.jmh;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.queryman.builder.ast.JdbcBinder;
+import org.queryman.builder.ast.JdbcBinders;
+import org.queryman.builder.token.PreparedExpression;
+import org.queryman.builder.token.expression.prepared.BigDecimalExpression;
+import org.queryman.builder.token.expression.prepared.BooleanExpression;
+import org.queryman.builder.token.expression.prepared.ByteExpression;
+import org.queryman.builder.token.expression.prepared.BytesExpression;
+import org.queryman.builder.token.expression.prepared.DateExpression;
+import org.queryman.builder.token.expression.prepared.DollarStringExpression;
+import org.queryman.builder.token.expression.prepared.DoubleExpression;
+import org.queryman.builder.token.expression.prepared.FloatExpression;
+import org.queryman.builder.token.expression.prepared.IntegerExpression;
+import org.queryman.builder.token.expression.prepared.LongExpression;
+import org.queryman.builder.token.expression.prepared.ShortExpression;
+import org.queryman.builder.token.expression.prepared.StringExpression;
+import org.queryman.builder.token.expression.prepared.TimeExpression;
+import org.queryman.builder.token.expression.prepared.TimestampExpression;
+import org.queryman.builder.token.expression.prepared.UUIDExpression;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.queryman.builder.Queryman.asConstant;
+
+/**
+ * Binding of parameters of different types to a stub statement.
+ * {@link #classValue()} resolves a binder by {@link JdbcBinders}, those
+ * caches it in a {@link ClassValue}. {@link #instanceofChain()} is the chain
+ * of {@code instanceof} checks, which {@code JavaTypeToJdbc} walked before
+ * the binders, so a type at the end of the chain pays for all checks before it.
+ *
+ * @author Timur Shaidullin
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class BinderBenchmark {
+    private Connection           connection;
+    private PreparedStatement    statement;
+    private PreparedExpression[] params;
+
+    @Setup
+    public void setUp() throws SQLException {
+        connection = Stubs.connection();
+        statement = connection.prepareStatement("");
+        params = new PreparedExpression[]{
+           (PreparedExpression) asConstant(true),
+           (PreparedExpression) asConstant(1),
+           (PreparedExpression) asConstant(1L),
+           (PreparedExpression) asConstant(new BigDecimal("1.5")),
+           (PreparedExpression) asConstant("test"),
+           (PreparedExpression) asConstant(Timestamp.valueOf("2019-01-02 03:04:05")),
+           (PreparedExpression) asConstant(UUID.fromString("5f0c6b4e-1f2a-4a55-9a3e-2f8d0b1c7e11")),
+           (PreparedExpression) asConstant(new byte[]{ 0, 10, -1 })
+        };
+    }
+
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public PreparedStatement classValue() throws SQLException {
+        for (int i = 0; i < params.length; i++) {
+            JdbcBinder binder = JdbcBinders.get(params[i].getClass());
+            binder.bind(statement, i + 1, params[i], connection);
+        }
+
+        return statement;
+    }
+
+    @Benchmark
+    public PreparedStatement instanceofChain() throws SQLException {
+        for (int i = 0; i < params.length; i++) {
+            PreparedExpression expr  = params[i];
+            int                index = i + 1;
+
+            if (expr instanceof BooleanExpression)
+                statement.setBoolean(index, ((BooleanExpression) expr).getValue());
+
+            else if (expr instanceof ShortExpression)
+                statement.setShort(index, ((ShortExpression) expr).getValue());
+
+            else if (expr instanceof ByteExpression)
+                statement.setByte(index, ((ByteExpression) expr).getValue());
+
+            else if (expr instanceof IntegerExpression)
+                statement.setInt(index, ((IntegerExpression) expr).getInt());
+
+            else if (expr instanceof LongExpression)
+                statement.setLong(index, ((LongExpression) expr).getLong());
+
+            else if (expr instanceof FloatExpression)
+                statement.setFloat(index, ((FloatExpression) expr).getValue());
+
+            else if (expr instanceof DoubleExpression)
+                statement.setDouble(index, ((DoubleExpression) expr).getDouble());
+
+            else if (expr instanceof BigDecimalExpression)
+                statement.setBigDecimal(index, ((BigDecimalExpression) expr).getValue());
+
+            else if (expr instanceof StringExpression)
+                statement.setString(index, ((StringExpression) expr).getValue());
+
+            else if (expr instanceof DollarStringExpression)
+                statement.setString(index, ((DollarStringExpression) expr).getValue());
+
+            else if (expr instanceof DateExpression)
+                statement.setDate(index, ((DateExpression) expr).getValue());
+
+            else if (expr instanceof TimeExpression)
+                statement.setTime(index, ((TimeExpression) expr).getValue());
+
+            else if (expr instanceof TimestampExpression)
+                statement.setTimestamp(index, ((TimestampExpression) expr).getValue());
+
+            else if (expr instanceof UUIDExpression)
+                statement.setObject(index, ((UUIDExpression) expr).getValue());
+
+            else if (expr instanceof BytesExpression)
+                statement.setBytes(index, ((BytesExpression) expr).getBytes());
+        }
+
+        return statement;
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ *  Queryman. Java tools for working with queries of PostgreSQL database.
+ *
+ *  License: MIT License
+ *  To see license follow by http://queryman.org/license.txt
+ */
+package org.queryman.builder.jmh;
+
+import org.openjdk.jmh.annotations.Param;
+import org.queryman.builder.Query;
+import org.queryman.builder.command.Conditions;
+
+import static org.queryman.builder.Queryman.asConstant;
+import static org.queryman.builder.Queryman.condition;
+import static org.queryman.builder.Queryman.select;
+
+/**
+ * Chain of {@code size} predicates joined by {@code OR}. A flat chain is
+ * kept in a single node, so it measures appending to a long chain and
+ * the rendering of a very wide node. If it is {@code nested}, every
+ * predicate is joined with a sub chain of the following ones, e.g.
+ * {@code id = 0 OR (id = 1 OR (id = 2 ...))}, so it measures the rendering
+ * of a tree, those depth is the {@code size}.
+ *
+ * @author Timur Shaidullin
+ */
+public class ConditionsBenchmark extends QueryBenchmark {
+    @Param({ "1000", "10000", "100000" })
+    private int size;
+
+    @Param({ "false", "true" })
+    private boolean nested;
+
+    @Override
+    protected Query newQuery() {
+        return select("id").from("book").where(nested ? nested() : flat());
+    }
+
+    private Conditions flat() {
+        Conditions conditions = condition("id", "=", asConstant(0));
+
+        for (int i = 1; i < size; i++)
+            conditions.or("id", "=", asConstant(i));
+
+        return conditions;
+    }
+
+    private Conditions nested() {
+        Conditions conditions = condition("id", "=", asConstant(size - 1));
+
+        for (int i = size - 2; i >= 0; i--)
+            conditions = condition("id", "=", asConstant(i)).or(conditions);
+
+        return conditions;
+    }
+}
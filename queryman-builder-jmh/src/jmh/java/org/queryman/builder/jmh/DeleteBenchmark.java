@@ -0,0 +1,42 @@
+/*
+ *  Queryman. Java tools for working with queries of PostgreSQL database.
+ *
+ *  License: MIT License
+ *  To see license follow by http://queryman.org/license.txt
+ */
+package org.queryman.builder.jmh;
+
+import org.openjdk.jmh.annotations.Param;
+import org.queryman.builder.Query;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.queryman.builder.Operators.IN;
+import static org.queryman.builder.Queryman.asList;
+import static org.queryman.builder.Queryman.asName;
+import static org.queryman.builder.Queryman.deleteFrom;
+
+/**
+ * {@code DELETE} of rows, those keys are in an {@code IN} list of
+ * {@code size} values.
+ *
+ * @author Timur Shaidullin
+ */
+public class DeleteBenchmark extends QueryBenchmark {
+    @Param({ "10", "1000", "100000" })
+    private int size;
+
+    private List<Long> keys;
+
+    @Override
+    protected Query newQuery() {
+        if (keys == null) {
+            keys = new ArrayList<>(size);
+            for (long i = 0; i < size; i++)
+                keys.add(i);
+        }
+
+        return deleteFrom("book").where(asName("id"), IN, asList(keys));
+    }
+}
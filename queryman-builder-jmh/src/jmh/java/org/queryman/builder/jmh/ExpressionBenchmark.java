@@ -0,0 +1,62 @@
+/*
+ *  Queryman. Java tools for working with queries of PostgreSQL database.
+ *
+ *  License: MIT License
+ *  To see license follow by http://queryman.org/license.txt
+ */
+package org.queryman.builder.jmh;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.queryman.builder.token.Expression;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.queryman.builder.Queryman.asConstant;
+import static org.queryman.builder.Queryman.asName;
+
+/**
+ * Rendering of a single expression. {@link #cachedName()} reuses the
+ * memoized name, {@link #invalidatedName()} drops it by {@code cast} before
+ * every call and {@link #newName()} renders a new expression.
+ *
+ * @author Timur Shaidullin
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ExpressionBenchmark {
+    private Expression column;
+    private Expression constant;
+
+    @Setup
+    public void setUp() {
+        column = asName("b.author_id").cast("bigint").as("author");
+        constant = asConstant("test").cast("varchar");
+    }
+
+    @Benchmark
+    public String cachedName() {
+        return column.getName();
+    }
+
+    @Benchmark
+    public String cachedConstant() {
+        return constant.getName();
+    }
+
+    @Benchmark
+    public String invalidatedName() {
+        return column.cast("bigint").getName();
+    }
+
+    @Benchmark
+    public String newName() {
+        return asName("b.author_id").cast("bigint").as("author").getName();
+    }
+}
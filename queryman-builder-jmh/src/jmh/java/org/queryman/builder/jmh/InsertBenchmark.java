@@ -0,0 +1,35 @@
+/*
+ *  Queryman. Java tools for working with queries of PostgreSQL database.
+ *
+ *  License: MIT License
+ *  To see license follow by http://queryman.org/license.txt
+ */
+package org.queryman.builder.jmh;
+
+import org.openjdk.jmh.annotations.Param;
+import org.queryman.builder.Query;
+import org.queryman.builder.command.insert.InsertValuesStep;
+
+import static org.queryman.builder.Queryman.insertInto;
+
+/**
+ * {@code INSERT} of {@code size} rows.
+ *
+ * @author Timur Shaidullin
+ */
+public class InsertBenchmark extends QueryBenchmark {
+    @Param({ "10", "1000", "100000" })
+    private int size;
+
+    @Override
+    protected Query newQuery() {
+        InsertValuesStep insert = insertInto("book")
+           .columns("id", "name", "price")
+           .values(0, "name0", 0.5);
+
+        for (int i = 1; i < size; i++)
+            insert.values(i, "name" + i, i + 0.5);
+
+        return insert;
+    }
+}
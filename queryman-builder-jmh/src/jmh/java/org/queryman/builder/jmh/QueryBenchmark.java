@@ -0,0 +1,65 @@
+/*
+ *  Queryman. Java tools for working with queries of PostgreSQL database.
+ *
+ *  License: MIT License
+ *  To see license follow by http://queryman.org/license.txt
+ */
+package org.queryman.builder.jmh;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.queryman.builder.Query;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the three stages of a query separately: building of the query,
+ * rendering of a SQL string and binding of a prepared statement. Subclasses
+ * build a query of the given {@code size}; the meaning of the size depends
+ * on a command.
+ *
+ * Run it with {@code -prof gc} to see allocations per operation.
+ *
+ * @author Timur Shaidullin
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public abstract class QueryBenchmark {
+    private Connection conn;
+    private Query      query;
+
+    @Setup
+    public void setUp() {
+        conn = Stubs.connection();
+        query = newQuery();
+    }
+
+    /**
+     * @return new query of the benchmark size
+     */
+    protected abstract Query newQuery();
+
+    @Benchmark
+    public Query build() {
+        return newQuery();
+    }
+
+    @Benchmark
+    public String sql() {
+        return query.sql();
+    }
+
+    @Benchmark
+    public PreparedStatement prepared() throws SQLException {
+        return query.buildPreparedStatement(conn);
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ *  Queryman. Java tools for working with queries of PostgreSQL database.
+ *
+ *  License: MIT License
+ *  To see license follow by http://queryman.org/license.txt
+ */
+package org.queryman.builder.jmh;
+
+import org.openjdk.jmh.annotations.Param;
+import org.queryman.builder.Query;
+import org.queryman.builder.command.select.SelectWhereManySteps;
+
+import static org.queryman.builder.Queryman.asConstant;
+import static org.queryman.builder.Queryman.select;
+
+/**
+ * {@code SELECT} of {@code size} columns, those are filtered by
+ * {@code size} predicates joined by {@code AND}.
+ *
+ * @author Timur Shaidullin
+ */
+public class SelectBenchmark extends QueryBenchmark {
+    @Param({ "10", "1000", "100000" })
+    private int size;
+
+    @Override
+    protected Query newQuery() {
+        String[] columns = new String[size];
+        for (int i = 0; i < size; i++)
+            columns[i] = "b.column" + i;
+
+        SelectWhereManySteps select = select(columns)
+           .from("book as b")
+           .where("b.column0", "=", asConstant(0));
+
+        for (int i = 1; i < size; i++)
+            select.and("b.column" + i, "=", asConstant(i));
+
+        return select.orderBy("b.column0").limit(10);
+    }
+}
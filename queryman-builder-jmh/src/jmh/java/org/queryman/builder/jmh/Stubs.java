@@ -0,0 +1,56 @@
+/*
+ *  Queryman. Java tools for working with queries of PostgreSQL database.
+ *
+ *  License: MIT License
+ *  To see license follow by http://queryman.org/license.txt
+ */
+package org.queryman.builder.jmh;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+
+/**
+ * Stubs of JDBC objects, those do nothing. They let benchmarks measure
+ * {@code buildPreparedStatement} without a database: the statement accepts
+ * any {@code setXXX} call and the connection always returns that statement.
+ *
+ * @author Timur Shaidullin
+ */
+final class Stubs {
+    private Stubs() {
+    }
+
+    /**
+     * @return connection, which prepares a stub statement
+     */
+    static Connection connection() {
+        PreparedStatement statement = stub(PreparedStatement.class, null);
+        return stub(Connection.class, statement);
+    }
+
+    /**
+     * Every method of the stub returns a {@code statement} if it is
+     * a {@link PreparedStatement}, otherwise a default value of its type.
+     */
+    private static <T> T stub(Class<T> type, PreparedStatement statement) {
+        return type.cast(Proxy.newProxyInstance(
+           Stubs.class.getClassLoader(),
+           new Class<?>[]{ type },
+           (proxy, method, args) -> {
+               Class<?> result = method.getReturnType();
+
+               if (result == PreparedStatement.class)
+                   return statement;
+               if (result == boolean.class)
+                   return false;
+               if (result == int.class)
+                   return 0;
+               if (result == long.class)
+                   return 0L;
+
+               return null;
+           }
+        ));
+    }
+}
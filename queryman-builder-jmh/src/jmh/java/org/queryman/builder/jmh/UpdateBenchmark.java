@@ -0,0 +1,33 @@
+/*
+ *  Queryman. Java tools for working with queries of PostgreSQL database.
+ *
+ *  License: MIT License
+ *  To see license follow by http://queryman.org/license.txt
+ */
+package org.queryman.builder.jmh;
+
+import org.openjdk.jmh.annotations.Param;
+import org.queryman.builder.Query;
+import org.queryman.builder.command.update.UpdateSetManyStep;
+
+import static org.queryman.builder.Queryman.update;
+
+/**
+ * {@code UPDATE} of {@code size} columns of a row.
+ *
+ * @author Timur Shaidullin
+ */
+public class UpdateBenchmark extends QueryBenchmark {
+    @Param({ "10", "1000", "100000" })
+    private int size;
+
+    @Override
+    protected Query newQuery() {
+        UpdateSetManyStep update = update("book").set("column0", 0);
+
+        for (int i = 1; i < size; i++)
+            update.set("column" + i, i);
+
+        return update.where("id", "=", 1).returning("id");
+    }
+}
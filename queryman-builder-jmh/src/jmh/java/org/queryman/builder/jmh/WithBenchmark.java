@@ -0,0 +1,37 @@
+/*
+ *  Queryman. Java tools for working with queries of PostgreSQL database.
+ *
+ *  License: MIT License
+ *  To see license follow by http://queryman.org/license.txt
+ */
+package org.queryman.builder.jmh;
+
+import org.openjdk.jmh.annotations.Param;
+import org.queryman.builder.Query;
+import org.queryman.builder.command.with.WithAsManySteps;
+
+import static org.queryman.builder.Queryman.asConstant;
+import static org.queryman.builder.Queryman.select;
+import static org.queryman.builder.Queryman.with;
+
+/**
+ * {@code SELECT} with {@code size} common table expressions.
+ *
+ * @author Timur Shaidullin
+ */
+public class WithBenchmark extends QueryBenchmark {
+    @Param({ "10", "1000", "100000" })
+    private int size;
+
+    @Override
+    protected Query newQuery() {
+        WithAsManySteps with = with("cte0", "id", "name")
+           .as(select("id", "name").from("book").where("id", "=", asConstant(0)));
+
+        for (int i = 1; i < size; i++)
+            with = with.with("cte" + i, "id", "name")
+               .as(select("id", "name").from("book").where("id", "=", asConstant(i)));
+
+        return with.select("id", "name").from("cte0");
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ *  Queryman. Java tools for working with queries of PostgreSQL database.
+ *
+ *  License: MIT License
+ *  To see license follow by http://queryman.org/license.txt
+ */
+package org.queryman.builder.ast;
+
+/**
+ * Emits the JFR events of Queryman. It is loaded by {@link QueryEvents}
+ * only if the {@code jdk.jfr} module is present.
+ *
+ * @author Timur Shaidullin
+ */
+final class JfrQueryEventSink implements QueryEventSink {
+    @Override
+    public Object assembling() {
+        QueryAssembledEvent event = new QueryAssembledEvent();
+        if (!event.isEnabled())
+            return null;
+
+        event.begin();
+        return event;
+    }
+
+    @Override
+    public void assembled(Object event, AbstractSyntaxTree tree) {
+        ((QueryAssembledEvent) event).finish(tree);
+    }
+
+    @Override
+    public Object rendering() {
+        QueryRenderedEvent event = new QueryRenderedEvent();
+        if (!event.isEnabled())
+            return null;
+
+        event.begin();
+        return event;
+    }
+
+    @Override
+    public void rendered(Object event,
+                         Node root,
+                         boolean prepared,
+                         boolean cacheHit,
+                         int nodeCount,
+                         long sqlLength,
+                         int parameterCount) {
+        QueryRenderedEvent rendered = (QueryRenderedEvent) event;
+        rendered.end();
+
+        if (rendered.shouldCommit()) {
+            rendered.command = QueryEvents.command(root);
+            rendered.prepared = prepared;
+            rendered.cacheHit = cacheHit;
+            rendered.nodeCount = nodeCount;
+            rendered.sqlLength = sqlLength;
+            rendered.parameterCount = parameterCount;
+            rendered.commit();
+        }
+    }
+
+    @Override
+    public Object binding() {
+        ParametersBoundEvent event = new ParametersBoundEvent();
+        if (!event.isEnabled())
+            return null;
+
+        event.begin();
+        return event;
+    }
+
+    @Override
+    public void bound(Object event, int parameterCount) {
+        ParametersBoundEvent bound = (ParametersBoundEvent) event;
+        bound.end();
+
+        if (bound.shouldCommit()) {
+            bound.parameterCount = parameterCount;
+            bound.commit();
+        }
+    }
+}
@@ -0,0 +1,30 @@
+/*
+ *  Queryman. Java tools for working with queries of PostgreSQL database.
+ *
+ *  License: MIT License
+ *  To see license follow by http://queryman.org/license.txt
+ */
+package org.queryman.builder.ast;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event of binding parameters to a prepared statement by
+ * {@link JavaTypeToJdbc}. It is created only by {@link JfrQueryEventSink}.
+ *
+ * @author Timur Shaidullin
+ */
+@Name("org.queryman.builder.ParametersBound")
+@Label("Parameters Bound")
+@Category("Queryman")
+@Description("Parameters are bound to a prepared statement")
+@StackTrace(false)
+public final class ParametersBoundEvent extends Event {
+    @Label("Parameter Count")
+    int parameterCount;
+}
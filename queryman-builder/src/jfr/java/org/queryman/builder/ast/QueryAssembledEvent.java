@@ -0,0 +1,67 @@
+/*
+ *  Queryman. Java tools for working with queries of PostgreSQL database.
+ *
+ *  License: MIT License
+ *  To see license follow by http://queryman.org/license.txt
+ */
+package org.queryman.builder.ast;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * JFR event of assembling a query into an abstract syntax tree. It is
+ * created only by {@link JfrQueryEventSink}.
+ *
+ * @author Timur Shaidullin
+ */
+@Name("org.queryman.builder.QueryAssembled")
+@Label("Query Assembled")
+@Category("Queryman")
+@Description("Query is assembled into an abstract syntax tree")
+@StackTrace(false)
+public final class QueryAssembledEvent extends Event {
+    @Label("Command")
+    String command;
+
+    @Label("Node Count")
+    int nodeCount;
+
+    /**
+     * Ends the event and commits it, if it passes the thresholds of
+     * the recording.
+     *
+     * @param tree assembled tree
+     */
+    void finish(AbstractSyntaxTree tree) {
+        end();
+
+        if (shouldCommit()) {
+            Node root = tree.getRootNode();
+
+            command = QueryEvents.command(root);
+            nodeCount = nodeCount(root);
+            commit();
+        }
+    }
+
+    private static int nodeCount(Node root) {
+        Deque<Node> stack = new ArrayDeque<>();
+        int         count = 0;
+
+        stack.push(root);
+        while (!stack.isEmpty()) {
+            count++;
+            stack.pop().getNodes().forEach(stack::push);
+        }
+
+        return count;
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ *  Queryman. Java tools for working with queries of PostgreSQL database.
+ *
+ *  License: MIT License
+ *  To see license follow by http://queryman.org/license.txt
+ */
+package org.queryman.builder.ast;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event of rendering a tree to SQL by {@link TreeFormatter}, or of
+ * taking a prepared SQL from {@link SqlCache}. It is created only by
+ * {@link JfrQueryEventSink}.
+ *
+ * @author Timur Shaidullin
+ */
+@Name("org.queryman.builder.QueryRendered")
+@Label("Query Rendered")
+@Category("Queryman")
+@Description("Abstract syntax tree is rendered to SQL")
+@StackTrace(false)
+public final class QueryRenderedEvent extends Event {
+    @Label("Command")
+    String command;
+
+    @Label("Prepared")
+    @Description("Placeholders are rendered instead of values")
+    boolean prepared;
+
+    @Label("Cache Hit")
+    @Description("Prepared SQL is taken from the cache instead of rendering")
+    boolean cacheHit;
+
+    @Label("Node Count")
+    int nodeCount;
+
+    @Label("SQL Length")
+    @Description("Length of SQL in characters")
+    long sqlLength;
+
+    @Label("Parameter Count")
+    int parameterCount;
+}
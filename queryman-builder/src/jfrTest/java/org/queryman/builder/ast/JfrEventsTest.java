@@ -0,0 +1,142 @@
+package org.queryman.builder.ast;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.queryman.builder.BaseTest;
+import org.queryman.builder.Query;
+import org.queryman.builder.Queryman;
+import org.queryman.builder.boot.ServiceRegister;
+import org.queryman.builder.cfg.Settings;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.queryman.builder.Bootstrap.BOOT;
+import static org.queryman.builder.Queryman.asConstant;
+import static org.queryman.builder.Queryman.asName;
+import static org.queryman.builder.Queryman.operator;
+import static org.queryman.builder.Queryman.select;
+
+class JfrEventsTest extends BaseTest {
+    @Test
+    void events() throws IOException, SQLException {
+        Query query = select(asName("id"), asName("name"))
+           .from(asName("book"))
+           .where(asName("id"), operator("="), asConstant(1))
+           .and(asName("name"), operator("="), asConstant("test"));
+
+        Path file = Files.createTempFile("queryman", ".jfr");
+
+        try (Recording recording = new Recording()) {
+            recording.enable(QueryAssembledEvent.class);
+            recording.enable(QueryRenderedEvent.class);
+            recording.enable(ParametersBoundEvent.class);
+            recording.start();
+
+            String sql = query.sql();
+            try (Connection conn = BOOT.getDataSource().getConnection();
+                 PreparedStatement statement = query.buildPreparedStatement(conn)) {
+                statement.executeQuery().close();
+            }
+
+            recording.stop();
+            recording.dump(file);
+
+            List<RecordedEvent> events = RecordingFile.readAllEvents(file)
+               .stream()
+               .filter(e -> e.getEventType().getName().startsWith("org.queryman.builder."))
+               .filter(e -> e.getThread().getJavaThreadId() == Thread.currentThread().getId())
+               .collect(Collectors.toList());
+
+            List<RecordedEvent> assembled = events(events, "QueryAssembled");
+            assertEquals(2, assembled.size());
+            assertEquals("SELECT", assembled.get(0).getString("command"));
+            assertTrue(assembled.get(0).getInt("nodeCount") > 1);
+
+            List<RecordedEvent> rendered = events(events, "QueryRendered");
+            assertEquals(2, rendered.size());
+
+            RecordedEvent plain = rendered.get(0);
+            assertFalse(plain.getBoolean("prepared"));
+            assertEquals(sql.length(), plain.getLong("sqlLength"));
+            assertEquals(assembled.get(0).getInt("nodeCount"), plain.getInt("nodeCount"));
+
+            RecordedEvent prepared = rendered.get(1);
+            assertTrue(prepared.getBoolean("prepared"));
+            assertEquals("SELECT id, name FROM book WHERE id = ? AND name = ?".length(), prepared.getLong("sqlLength"));
+            assertEquals(2, prepared.getInt("parameterCount"));
+            assertFalse(prepared.getBoolean("cacheHit"));
+
+            List<RecordedEvent> bound = events(events, "ParametersBound");
+            assertEquals(1, bound.size());
+            assertEquals(2, bound.get(0).getInt("parameterCount"));
+            assertFalse(bound.get(0).getDuration().isNegative());
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    void cacheHit() throws IOException {
+        ServiceRegister register = new ServiceRegister();
+        register.getMetadataBuilder()
+           .setXmlCfg("")
+           .setPropertiesCfg("")
+           .getMetadata()
+           .addProperty(Settings.SQL_CACHE_SIZE, "2");
+
+        Queryman.setTreeFactory(register.make().treeFactory());
+
+        Path file = Files.createTempFile("queryman", ".jfr");
+
+        try (Recording recording = new Recording()) {
+            recording.enable(QueryRenderedEvent.class);
+            recording.start();
+
+            for (int i = 0; i < 2; i++)
+                TreeFormatterUtil.buildPreparedSQL(
+                   select(asName("id")).from(asName("book")).where(asName("id"), operator("="), asConstant(i))
+                );
+
+            recording.stop();
+            recording.dump(file);
+
+            List<RecordedEvent> rendered = events(RecordingFile.readAllEvents(file)
+               .stream()
+               .filter(e -> e.getThread().getJavaThreadId() == Thread.currentThread().getId())
+               .collect(Collectors.toList()), "QueryRendered");
+
+            assertEquals(2, rendered.size());
+            assertFalse(rendered.get(0).getBoolean("cacheHit"));
+
+            RecordedEvent hit = rendered.get(1);
+            assertTrue(hit.getBoolean("cacheHit"));
+            assertTrue(hit.getBoolean("prepared"));
+            assertEquals("SELECT", hit.getString("command"));
+            assertEquals("SELECT id FROM book WHERE id = ?".length(), hit.getLong("sqlLength"));
+            assertEquals(1, hit.getInt("parameterCount"));
+            assertEquals(rendered.get(0).getInt("nodeCount"), hit.getInt("nodeCount"));
+        } finally {
+            Queryman.setTreeFactory(new ServiceRegister().makeDefaults().treeFactory());
+            Files.delete(file);
+        }
+    }
+
+    private static List<RecordedEvent> events(List<RecordedEvent> events, String name) {
+        return events.stream()
+           .filter(e -> e.getEventType().getName().equals("org.queryman.builder." + name))
+           .sorted((a, b) -> a.getStartTime().compareTo(b.getStartTime()))
+           .collect(Collectors.toList());
+    }
+}
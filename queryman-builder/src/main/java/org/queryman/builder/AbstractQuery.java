@@ -8,8 +8,14 @@ package org.queryman.builder;
 
 import org.queryman.builder.ast.AbstractSyntaxTree;
 import org.queryman.builder.ast.AstVisitor;
+import org.queryman.builder.ast.QueryEvents;
+import org.queryman.builder.ast.QueryBatch;
+import org.queryman.builder.ast.QueryMetrics;
+import org.queryman.builder.ast.QueryTemplate;
 import org.queryman.builder.ast.TreeFormatterUtil;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
@@ -22,9 +28,21 @@ import java.sql.SQLException;
 public abstract class AbstractQuery implements Query, AstVisitor {
     @Override
     public String sql() {
-        AbstractSyntaxTree tree = Queryman.getTree();
-        assemble(tree);
-        return tree.toString();
+        QueryMetrics.Sample sample = Queryman.getQueryMetrics().start();
+        AbstractSyntaxTree tree = assembleTree();
+        return TreeFormatterUtil.buildSQL(tree, sample);
+    }
+
+    @Override
+    public <A extends Appendable> A renderTo(A out) throws IOException {
+        AbstractSyntaxTree tree = assembleTree();
+        return TreeFormatterUtil.render(tree, out);
+    }
+
+    @Override
+    public ByteBuffer renderTo(ByteBuffer buffer) {
+        AbstractSyntaxTree tree = assembleTree();
+        return TreeFormatterUtil.render(tree, buffer);
     }
 
     @Override
@@ -34,8 +52,33 @@ public abstract class AbstractQuery implements Query, AstVisitor {
 
     @Override
     public PreparedStatement buildPreparedStatement(Connection conn) throws SQLException {
+        QueryMetrics.Sample sample = Queryman.getQueryMetrics().start();
+        AbstractSyntaxTree tree = assembleTree();
+        return TreeFormatterUtil.buildPreparedStatement(tree, conn, sample);
+    }
+
+    @Override
+    public QueryTemplate compile() {
+        AbstractSyntaxTree tree = assembleTree();
+        return TreeFormatterUtil.buildTemplate(tree);
+    }
+
+    @Override
+    public QueryBatch batch(Connection conn) throws SQLException {
+        return compile().batch(conn);
+    }
+
+    /**
+     * Assembles this query into a new tree, it is traced by
+     * {@link QueryEvents#assembling()}.
+     */
+    private AbstractSyntaxTree assembleTree() {
+        Object event = QueryEvents.assembling();
+
         AbstractSyntaxTree tree = Queryman.getTree();
         assemble(tree);
-        return TreeFormatterUtil.buildPreparedStatement(tree, conn);
+
+        QueryEvents.assembled(event, tree);
+        return tree;
     }
 }
@@ -109,6 +109,11 @@ public class Keywords {
 
     public static final Keyword SET = keyword("SET");
 
+    public static final Keyword COPY       = keyword("COPY");
+    public static final Keyword FROM_STDIN = keyword("FROM STDIN");
+    public static final Keyword TO_STDOUT  = keyword("TO STDOUT");
+    public static final Keyword FORMAT     = keyword("FORMAT");
+
     public static final Keyword COLLATE = keyword("COLLATE");
 
 
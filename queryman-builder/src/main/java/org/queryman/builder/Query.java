@@ -7,7 +7,11 @@
 package org.queryman.builder;
 
 import org.queryman.builder.ast.AstVisitor;
+import org.queryman.builder.ast.QueryBatch;
+import org.queryman.builder.ast.QueryTemplate;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
@@ -26,6 +30,31 @@ public interface Query extends AstVisitor {
      */
     String sql();
 
+    /**
+     * Renders a SQL string straight into the {@code out} sink. It produces
+     * the same SQL as {@link #sql()}, but does not build an intermediate
+     * string.
+     *
+     * @param out sink, such as {@link StringBuilder}, {@link java.io.Writer} or
+     *            {@link java.nio.CharBuffer}
+     * @return the {@code out} sink
+     *
+     * @throws IOException if the {@code out} fails
+     */
+    <A extends Appendable> A renderTo(A out) throws IOException;
+
+    /**
+     * Renders a SQL string encoded to UTF-8 straight into the {@code buffer},
+     * starting at its current position.
+     *
+     * @param buffer byte buffer
+     * @return the {@code buffer}
+     *
+     * @throws java.nio.BufferOverflowException if the {@code buffer} has not
+     * enough remaining space
+     */
+    ByteBuffer renderTo(ByteBuffer buffer);
+
     /**
      * Builds a prepare statement, including into it a SQL string and parameters
      * associates with the SQL string.
@@ -35,4 +64,27 @@ public interface Query extends AstVisitor {
      *  necessaries values
      */
     PreparedStatement buildPreparedStatement(Connection conn) throws SQLException;
+
+    /**
+     * Compiles the query to an immutable template. The template holds
+     * the prepared SQL string, so binding it only sets the parameters.
+     *
+     * @return query template
+     *
+     * @see Queryman#param(String)
+     */
+    QueryTemplate compile();
+
+    /**
+     * Compiles the query and creates a batch, that executes it many times by
+     * a single prepared statement.
+     *
+     * @param conn connection
+     * @return batch
+     *
+     * @throws SQLException may be thrown during creation a prepared statement
+     *
+     * @see QueryTemplate#batch(Connection)
+     */
+    QueryBatch batch(Connection conn) throws SQLException;
 }
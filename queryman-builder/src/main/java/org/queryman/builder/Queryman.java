@@ -9,6 +9,9 @@ package org.queryman.builder;
 import org.queryman.builder.ast.AbstractSyntaxTree;
 import org.queryman.builder.ast.NodeMetadata;
 import org.queryman.builder.ast.NodesMetadata;
+import org.queryman.builder.ast.QueryMetrics;
+import org.queryman.builder.ast.SqlCache;
+import org.queryman.builder.ast.SqlLogger;
 import org.queryman.builder.ast.TreeFactory;
 import org.queryman.builder.boot.ServiceRegister;
 import org.queryman.builder.command.Conditions;
@@ -17,7 +20,9 @@ import org.queryman.builder.command.clause.OrderBy;
 import org.queryman.builder.command.create_sequence.SequenceAsStep;
 import org.queryman.builder.command.delete.DeleteAsStep;
 import org.queryman.builder.command.from.FromFirstStep;
+import org.queryman.builder.command.copy.CopyColumnsStep;
 import org.queryman.builder.command.impl.ConditionsImpl;
+import org.queryman.builder.command.impl.CopyImpl;
 import org.queryman.builder.command.impl.DeleteImpl;
 import org.queryman.builder.command.impl.FromImpl;
 import org.queryman.builder.command.impl.InsertImpl;
@@ -29,6 +34,7 @@ import org.queryman.builder.command.insert.InsertAsStep;
 import org.queryman.builder.command.select.SelectFromStep;
 import org.queryman.builder.command.update.UpdateAsStep;
 import org.queryman.builder.command.with.WithAsStep;
+import org.queryman.builder.token.ConstantFactories;
 import org.queryman.builder.token.Expression;
 import org.queryman.builder.token.Keyword;
 import org.queryman.builder.token.Operator;
@@ -38,30 +44,26 @@ import org.queryman.builder.token.expression.ListExpression;
 import org.queryman.builder.token.expression.NullExpression;
 import org.queryman.builder.token.expression.SubQueryExpression;
 import org.queryman.builder.token.expression.prepared.ArrayExpression;
-import org.queryman.builder.token.expression.prepared.BigDecimalExpression;
-import org.queryman.builder.token.expression.prepared.BooleanExpression;
+import org.queryman.builder.token.expression.prepared.BinaryStreamExpression;
 import org.queryman.builder.token.expression.prepared.ByteExpression;
-import org.queryman.builder.token.expression.prepared.BytesExpression;
 import org.queryman.builder.token.expression.prepared.DateExpression;
 import org.queryman.builder.token.expression.prepared.DollarStringExpression;
 import org.queryman.builder.token.expression.prepared.DoubleExpression;
 import org.queryman.builder.token.expression.prepared.FloatExpression;
 import org.queryman.builder.token.expression.prepared.IntegerExpression;
 import org.queryman.builder.token.expression.prepared.LongExpression;
+import org.queryman.builder.token.expression.prepared.ParamExpression;
 import org.queryman.builder.token.expression.prepared.ShortExpression;
 import org.queryman.builder.token.expression.prepared.StringExpression;
 import org.queryman.builder.token.expression.prepared.TimeExpression;
 import org.queryman.builder.token.expression.prepared.TimestampExpression;
-import org.queryman.builder.token.expression.prepared.UUIDExpression;
-import org.queryman.builder.utils.ArrayUtils;
 
-import java.math.BigDecimal;
+import java.io.InputStream;
 import java.sql.Date;
 import java.sql.Time;
 import java.sql.Timestamp;
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.UUID;
 import java.util.function.Function;
 
 import static org.queryman.builder.ast.NodesMetadata.EXISTS;
@@ -105,6 +107,58 @@ public class Queryman {
         return treeFactory.getTree();
     }
 
+    /**
+     * @return cache of prepared SQL strings, it also exposes the hit and miss
+     * counters
+     */
+    public static SqlCache getSqlCache() {
+        return treeFactory.getSqlCache();
+    }
+
+    /**
+     * @return logger of the built SQL strings
+     *
+     * @see org.queryman.builder.cfg.Settings#SQL_LOGGING
+     */
+    public static SqlLogger getSqlLogger() {
+        return treeFactory.getSqlLogger();
+    }
+
+    /**
+     * @return metrics of the built statements, they are measured only if
+     * {@link org.queryman.builder.cfg.Settings#METRICS} is enabled
+     */
+    public static QueryMetrics getQueryMetrics() {
+        return treeFactory.getQueryMetrics();
+    }
+
+    /**
+     * @return maximum size of IN list, those is not rewritten to an array
+     *
+     * @see org.queryman.builder.cfg.Settings#IN_LIST_ARRAY_THRESHOLD
+     */
+    public static int getInListArrayThreshold() {
+        return treeFactory.getInListArrayThreshold();
+    }
+
+    /**
+     * @return true if the IN lists are padded up to the next power of two
+     *
+     * @see org.queryman.builder.cfg.Settings#IN_LIST_PADDING
+     */
+    public static boolean isInListPadding() {
+        return treeFactory.isInListPadding();
+    }
+
+    /**
+     * @return maximum size of IN list, those is not staged into a temporary table
+     *
+     * @see org.queryman.builder.cfg.Settings#IN_LIST_TEMP_TABLE_THRESHOLD
+     */
+    public static int getInListTempTableThreshold() {
+        return treeFactory.getInListTempTableThreshold();
+    }
+
     //---
     // WITH API
     //---
@@ -683,6 +737,44 @@ public class Queryman {
         return new InsertImpl(table);
     }
 
+    //----
+    // COPY
+    //----
+
+    /**
+     * COPY .. FROM STDIN statement, it bulk loads rows into the table.
+     * <code>
+     *     // COPY book (id, name) FROM STDIN (FORMAT binary)
+     *     copyInto("book")
+     *      .columns("id", "name")
+     *      .binary()
+     *      .execute(conn, rows)
+     * </code>
+     *
+     * @param table target table name
+     * @return copy columns step
+     */
+    public static CopyColumnsStep copyInto(String table) {
+        return copyInto(asName(table));
+    }
+
+    /**
+     * COPY .. FROM STDIN statement, it bulk loads rows into the table.
+     * <code>
+     *     // COPY book (id, name) FROM STDIN (FORMAT binary)
+     *     copyInto(asName("book"))
+     *      .columns("id", "name")
+     *      .binary()
+     *      .execute(conn, rows)
+     * </code>
+     *
+     * @param table target table name
+     * @return copy columns step
+     */
+    public static CopyColumnsStep copyInto(Expression table) {
+        return new CopyImpl(table);
+    }
+
     //----
     // COMMON CONDITIONS
     //----
@@ -706,6 +798,77 @@ public class Queryman {
         return new ConditionsImpl(toExpression(leftValue), new NodeMetadata(operator(operator)), toExpression(rightValue));
     }
 
+    /**
+     * Creates a condition, those right operand is an integer constant
+     * kept without boxing.
+     *
+     * @param column   column name
+     * @param operator operator
+     * @param value    right operand
+     *
+     * @return {@link Conditions}
+     */
+    public static Conditions condition(String column, String operator, int value) {
+        return new ConditionsImpl(asName(column), new NodeMetadata(operator(operator)), asConstant(value));
+    }
+
+    /**
+     * Creates a condition, those right operand is a bigint constant
+     * kept without boxing.
+     *
+     * @param column   column name
+     * @param operator operator
+     * @param value    right operand
+     *
+     * @return {@link Conditions}
+     */
+    public static Conditions condition(String column, String operator, long value) {
+        return new ConditionsImpl(asName(column), new NodeMetadata(operator(operator)), asConstant(value));
+    }
+
+    /**
+     * Creates a condition, those right operand is a smallint constant kept
+     * without boxing.
+     *
+     * @param column   column name
+     * @param operator operator
+     * @param value    right operand
+     *
+     * @return {@link Conditions}
+     */
+    public static Conditions condition(String column, String operator, short value) {
+        return new ConditionsImpl(asName(column), new NodeMetadata(operator(operator)), asConstant(value));
+    }
+
+    /**
+     * Creates a condition, those right operand is a byte constant kept
+     * without boxing.
+     *
+     * @param column   column name
+     * @param operator operator
+     * @param value    right operand
+     *
+     * @return {@link Conditions}
+     */
+    public static Conditions condition(String column, String operator, byte value) {
+        return new ConditionsImpl(asName(column), new NodeMetadata(operator(operator)), asConstant(value));
+    }
+
+    /**
+     * Creates a condition, those right operand is a string constant of
+     * a single character. This overload keeps a char from being widened to
+     * {@link #condition(String, String, int)}.
+     *
+     * @param column   column name
+     * @param operator operator
+     * @param value    right operand
+     *
+     * @return {@link Conditions}
+     */
+    public static Conditions condition(String column, String operator, char value) {
+        return new ConditionsImpl(asName(column), new NodeMetadata(operator(operator)), asConstant(value));
+    }
+
     /**
      * Creates a BETWEEN condition
      * <code>
@@ -877,7 +1040,11 @@ public class Queryman {
     //----
 
     /**
-     * Using a class name of constant it creates an appropriate Expression object.
+     * Using a class of constant it creates an appropriate Expression object.
+     * The expression is created by a factory registered in {@link ConstantFactories},
+     * those are resolved once per class. Besides the types listed there,
+     * custom types can be supported by
+     * {@link ConstantFactories#register(Class, org.queryman.builder.token.ConstantFactory)}.
      *
      * {@link java.util.Date} is could not be convert to particular expression,
      * you should use ad hoc methods to convert it to any expression of DATE type:
@@ -894,55 +1061,82 @@ public class Queryman {
     public static <T> Expression asConstant(T constant) {
         if (constant == null)
             return new NullExpression(null);
-        Class<?> cl = ((Object)constant).getClass();
-
-        switch (cl.getCanonicalName()) {
-            case "java.lang.String":
-            case "java.lang.Character":
-                return new StringExpression(String.valueOf(constant));
-            case "java.lang.Boolean":
-                return new BooleanExpression((Boolean) constant);
-            case "java.lang.Integer":
-                return new IntegerExpression((Integer) constant);
-            case "java.lang.Byte":
-                return new ByteExpression((Byte) constant);
-            case "java.lang.Short":
-                return new ShortExpression((Short) constant);
-            case "java.lang.Long":
-                return new LongExpression((Long) constant);
-            case "java.lang.Double":
-                return new DoubleExpression((Double) constant);
-            case "java.lang.Float":
-                return new FloatExpression((Float) constant);
-            case "java.util.Date":
-                java.util.Date d = (java.util.Date) constant;
-                return asDate(new Date(d.getTime()));
-            case "java.sql.Date":
-                return asDate(constant);
-            case "java.sql.Time":
-                return asTime(constant);
-            case "java.sql.Timestamp":
-                return asTimestamp(constant);
-            case "java.math.BigDecimal":
-                return new BigDecimalExpression((BigDecimal) constant);
-            case "java.util.UUID":
-                return new UUIDExpression((UUID) constant);
-            case "byte[]":
-                return asConstant(ArrayUtils.toWrapper((byte[]) constant));
-            case "int[]":
-                return asConstant(ArrayUtils.toWrapper((int[]) constant));
-            case "short[]":
-                return asConstant(ArrayUtils.toWrapper((short[]) constant));
-            case "long[]":
-                return asConstant(ArrayUtils.toWrapper((long[]) constant));
-            case "float[]":
-                return asConstant(ArrayUtils.toWrapper((float[]) constant));
-        }
-
-        if (constant instanceof Expression)
-            return (Expression) constant;
-
-        throw new IllegalArgumentException("Unsupported type " + ((Object)constant).getClass().getCanonicalName());
+
+        return ConstantFactories.create(constant);
+    }
+
+    /**
+     * Creates an integer constant without boxing.
+     *
+     * @param constant constant
+     * @return {@link IntegerExpression}
+     */
+    public static Expression asConstant(int constant) {
+        return new IntegerExpression(constant);
+    }
+
+    /**
+     * Creates a bigint constant without boxing.
+     *
+     * @param constant constant
+     * @return {@link LongExpression}
+     */
+    public static Expression asConstant(long constant) {
+        return new LongExpression(constant);
+    }
+
+    /**
+     * Creates a double precision constant without boxing.
+     *
+     * @param constant constant
+     * @return {@link DoubleExpression}
+     */
+    public static Expression asConstant(double constant) {
+        return new DoubleExpression(constant);
+    }
+
+    /**
+     * Creates a real constant. This overload keeps a float from being widened
+     * to {@link #asConstant(double)}.
+     *
+     * @param constant constant
+     * @return {@link FloatExpression}
+     */
+    public static Expression asConstant(float constant) {
+        return new FloatExpression(constant);
+    }
+
+    /**
+     * Creates a smallint constant. This overload keeps a short from being
+     * widened to {@link #asConstant(int)}.
+     *
+     * @param constant constant
+     * @return {@link ShortExpression}
+     */
+    public static Expression asConstant(short constant) {
+        return new ShortExpression(constant);
+    }
+
+    /**
+     * Creates a byte constant. This overload keeps a byte from being
+     * widened to {@link #asConstant(int)}.
+     *
+     * @param constant constant
+     * @return {@link ByteExpression}
+     */
+    public static Expression asConstant(byte constant) {
+        return new ByteExpression(constant);
+    }
+
+    /**
+     * Creates a string constant. This overload keeps a char from being
+     * widened to {@link #asConstant(int)}.
+     *
+     * @param constant constant
+     * @return {@link StringExpression}
+     */
+    public static Expression asConstant(char constant) {
+        return new StringExpression(String.valueOf(constant));
     }
 
     /**
@@ -958,12 +1152,32 @@ public class Queryman {
         if (constants == null)
             return new NullExpression(null);
 
-        switch (constants.getClass().getCanonicalName()) {
-            case "java.lang.Byte[]":
-                return new BytesExpression((Byte[])constants);
-        }
+        return ConstantFactories.create(constants);
+    }
 
-        return asArray(constants);
+    /**
+     * Creates a binary expression read from the {@code stream}. The stream is
+     * bound by {@link java.sql.PreparedStatement#setBinaryStream(int, InputStream)},
+     * so it can be used only in a prepared statement.
+     *
+     * @param stream binary data
+     * @return {@link BinaryStreamExpression}
+     */
+    public static Expression asBinaryStream(InputStream stream) {
+        return new BinaryStreamExpression(stream, -1);
+    }
+
+    /**
+     * Creates a binary expression read from the {@code stream}. The stream is
+     * bound by {@link java.sql.PreparedStatement#setBinaryStream(int, InputStream, long)},
+     * so it can be used only in a prepared statement.
+     *
+     * @param stream binary data
+     * @param length number of bytes in the stream
+     * @return {@link BinaryStreamExpression}
+     */
+    public static Expression asBinaryStream(InputStream stream, long length) {
+        return new BinaryStreamExpression(stream, length);
     }
 
     /**
@@ -1024,6 +1238,22 @@ public class Queryman {
         return new DollarStringExpression(constant, tagName);
     }
 
+    /**
+     * Named parameter slot of a query template. Its value is supplied when
+     * the template is bound.
+     * <code>
+     * select("id").from("book").where("id", "=", param("id")).compile();
+     * </code>
+     *
+     * @param name name of the parameter
+     * @return a parameter expression. e.g. :id
+     *
+     * @see Query#compile()
+     */
+    public static Expression param(String name) {
+        return new ParamExpression(name);
+    }
+
     /**
      * Column reference expression:
      * <code>
@@ -0,0 +1,101 @@
+/*
+ *  Queryman. Java tools for working with queries of PostgreSQL database.
+ *
+ *  License: MIT License
+ *  To see license follow by http://queryman.org/license.txt
+ */
+package org.queryman.builder.ast;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Encodes appended characters to UTF-8 and puts them straight into
+ * a {@link ByteBuffer}. Malformed surrogate characters are replaced by
+ * {@code '?'}, as {@link String#getBytes(java.nio.charset.Charset)} does.
+ *
+ * If the buffer has not enough remaining space, the
+ * {@link java.nio.BufferOverflowException} is thrown.
+ *
+ * @author Timur Shaidullin
+ */
+final class ByteBufferAppender implements Appendable {
+    private final ByteBuffer buffer;
+
+    /**
+     * High surrogate waiting for its low pair.
+     */
+    private char high;
+
+    ByteBufferAppender(ByteBuffer buffer) {
+        this.buffer = buffer;
+    }
+
+    @Override
+    public ByteBufferAppender append(CharSequence csq) {
+        if (csq == null)
+            return append("null");
+
+        return append(csq, 0, csq.length());
+    }
+
+    @Override
+    public ByteBufferAppender append(CharSequence csq, int start, int end) {
+        if (csq == null)
+            return append("null", start, end);
+
+        for (int i = start; i < end; i++)
+            append(csq.charAt(i));
+
+        return this;
+    }
+
+    @Override
+    public ByteBufferAppender append(char c) {
+        if (high != 0) {
+            char h = high;
+            high = 0;
+
+            if (Character.isLowSurrogate(c)) {
+                int code = Character.toCodePoint(h, c);
+                buffer.put((byte) (0xF0 | (code >> 18)));
+                buffer.put((byte) (0x80 | ((code >> 12) & 0x3F)));
+                buffer.put((byte) (0x80 | ((code >> 6) & 0x3F)));
+                buffer.put((byte) (0x80 | (code & 0x3F)));
+                return this;
+            }
+
+            buffer.put((byte) '?');
+        }
+
+        if (c < 0x80) {
+            buffer.put((byte) c);
+        } else if (c < 0x800) {
+            buffer.put((byte) (0xC0 | (c >> 6)));
+            buffer.put((byte) (0x80 | (c & 0x3F)));
+        } else if (Character.isHighSurrogate(c)) {
+            high = c;
+        } else if (Character.isLowSurrogate(c)) {
+            buffer.put((byte) '?');
+        } else {
+            buffer.put((byte) (0xE0 | (c >> 12)));
+            buffer.put((byte) (0x80 | ((c >> 6) & 0x3F)));
+            buffer.put((byte) (0x80 | (c & 0x3F)));
+        }
+
+        return this;
+    }
+
+    /**
+     * Flushes a high surrogate left without its pair.
+     *
+     * @return the buffer
+     */
+    ByteBuffer finish() {
+        if (high != 0) {
+            high = 0;
+            buffer.put((byte) '?');
+        }
+
+        return buffer;
+    }
+}
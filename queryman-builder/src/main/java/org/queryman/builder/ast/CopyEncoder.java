@@ -0,0 +1,38 @@
+/*
+ *  Queryman. Java tools for working with queries of PostgreSQL database.
+ *
+ *  License: MIT License
+ *  To see license follow by http://queryman.org/license.txt
+ */
+package org.queryman.builder.ast;
+
+import org.queryman.builder.token.PreparedExpression;
+
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Encodes a value of a prepared expression for {@code COPY ... FROM STDIN}.
+ *
+ * @see CopyEncoders#register(Class, CopyEncoder)
+ *
+ * @author Timur Shaidullin
+ */
+public interface CopyEncoder<T extends PreparedExpression> {
+    /**
+     * @param expression prepared expression
+     * @return the value in the text form, as PostgreSQL reads it
+     */
+    String text(T expression);
+
+    /**
+     * Writes the value in the binary form of its PostgreSQL type. The length
+     * of the value is written by the caller.
+     *
+     * @param expression prepared expression
+     * @param out output
+     *
+     * @throws IOException if the {@code out} fails
+     */
+    void binary(T expression, DataOutput out) throws IOException;
+}
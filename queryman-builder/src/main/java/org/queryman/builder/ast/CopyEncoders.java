@@ -0,0 +1,281 @@
+/*
+ *  Queryman. Java tools for working with queries of PostgreSQL database.
+ *
+ *  License: MIT License
+ *  To see license follow by http://queryman.org/license.txt
+ */
+package org.queryman.builder.ast;
+
+import org.queryman.builder.token.PreparedExpression;
+import org.queryman.builder.token.expression.prepared.BigDecimalExpression;
+import org.queryman.builder.token.expression.prepared.BinaryStreamExpression;
+import org.queryman.builder.token.expression.prepared.BooleanExpression;
+import org.queryman.builder.token.expression.prepared.ByteExpression;
+import org.queryman.builder.token.expression.prepared.BytesExpression;
+import org.queryman.builder.token.expression.prepared.DateExpression;
+import org.queryman.builder.token.expression.prepared.DollarStringExpression;
+import org.queryman.builder.token.expression.prepared.DoubleExpression;
+import org.queryman.builder.token.expression.prepared.EnumExpression;
+import org.queryman.builder.token.expression.prepared.FloatExpression;
+import org.queryman.builder.token.expression.prepared.IntegerExpression;
+import org.queryman.builder.token.expression.prepared.LongExpression;
+import org.queryman.builder.token.expression.prepared.ShortExpression;
+import org.queryman.builder.token.expression.prepared.StringExpression;
+import org.queryman.builder.token.expression.prepared.TemporalExpression;
+import org.queryman.builder.token.expression.prepared.TimeExpression;
+import org.queryman.builder.token.expression.prepared.TimestampExpression;
+import org.queryman.builder.token.expression.prepared.UUIDExpression;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.ZoneOffset;
+import java.time.temporal.Temporal;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Registry of {@link CopyEncoder}s keyed by a class of prepared expression.
+ * It follows the type mapping of {@link JdbcBinders}: a value is encoded as
+ * the PostgreSQL type it is bound to, e.g. {@code Integer} as int4 and
+ * {@code OffsetDateTime} as timestamptz.
+ *
+ * An encoder of a class is resolved once through its superclasses and is
+ * cached by {@link ClassValue}. The array expressions have no encoder.
+ *
+ * @author Timur Shaidullin
+ */
+public final class CopyEncoders {
+    /**
+     * 2000-01-01, the epoch of PostgreSQL dates, in days and seconds since
+     * 1970-01-01.
+     */
+    private static final long PG_EPOCH_DAYS    = 10_957;
+    private static final long PG_EPOCH_SECONDS = PG_EPOCH_DAYS * 86_400;
+
+    private static final short NUMERIC_POSITIVE = 0x0000;
+    private static final short NUMERIC_NEGATIVE = 0x4000;
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private static final Map<Class<?>, CopyEncoder<?>> ENCODERS = new ConcurrentHashMap<>();
+
+    private static volatile ClassValue<CopyEncoder<?>> resolved = newResolver();
+
+    static {
+        register(BooleanExpression.class, encoder(e -> e.getValue() ? "t" : "f", (e, out) -> out.writeBoolean(e.getValue())));
+        register(ShortExpression.class, encoder(e -> e.getValue().toString(), (e, out) -> out.writeShort(e.getValue())));
+        register(ByteExpression.class, encoder(e -> e.getValue().toString(), (e, out) -> out.writeShort(e.getValue())));
+        register(IntegerExpression.class, encoder(e -> Integer.toString(e.getInt()), (e, out) -> out.writeInt(e.getInt())));
+        register(LongExpression.class, encoder(e -> Long.toString(e.getLong()), (e, out) -> out.writeLong(e.getLong())));
+        register(FloatExpression.class, encoder(e -> e.getValue().toString(), (e, out) -> out.writeFloat(e.getValue())));
+        register(DoubleExpression.class, encoder(e -> Double.toString(e.getDouble()), (e, out) -> out.writeDouble(e.getDouble())));
+        register(BigDecimalExpression.class, encoder(e -> e.getValue().toPlainString(), (e, out) -> numeric(e.getValue(), out)));
+        register(StringExpression.class, encoder(e -> e.getValue(), (e, out) -> utf8(e.getValue(), out)));
+        register(DollarStringExpression.class, encoder(e -> e.getValue(), (e, out) -> utf8(e.getValue(), out)));
+        register(UUIDExpression.class, encoder(e -> e.getValue().toString(), (e, out) -> {
+            out.writeLong(e.getValue().getMostSignificantBits());
+            out.writeLong(e.getValue().getLeastSignificantBits());
+        }));
+        register(DateExpression.class, encoder(e -> e.getValue().toString(), (e, out) -> date(e.getValue().toLocalDate(), out)));
+        register(TimeExpression.class, encoder(e -> e.getValue().toString(), (e, out) -> time(e.getValue().toLocalTime(), out)));
+        register(TimestampExpression.class, encoder(e -> e.getValue().toString(), (e, out) -> timestamp(e.getValue().toLocalDateTime(), out)));
+        register(TemporalExpression.class, encoder(e -> e.getValue().toString(), (e, out) -> temporal(e.getValue(), out)));
+        register(EnumExpression.class, encoder(e -> e.getValue().name(), (e, out) -> utf8(e.getValue().name(), out)));
+        register(BytesExpression.class, encoder(e -> hex(e.getBytes()), (e, out) -> out.write(e.getBytes())));
+        register(BinaryStreamExpression.class, encoder(e -> hex(readAll(e.getValue())), (e, out) -> {
+            byte[] buffer = new byte[8192];
+            int    length;
+            while ((length = e.getValue().read(buffer)) >= 0)
+                out.write(buffer, 0, length);
+        }));
+    }
+
+    private CopyEncoders() {
+    }
+
+    /**
+     * Registers an encoder for the {@code type} and its subclasses, those
+     * have no encoder of their own. The previous encoder of the {@code type}
+     * is replaced.
+     *
+     * @param type class of prepared expression
+     * @param encoder encoder
+     */
+    public static <T extends PreparedExpression> void register(Class<T> type, CopyEncoder<? super T> encoder) {
+        Objects.requireNonNull(type);
+        Objects.requireNonNull(encoder);
+
+        ENCODERS.put(type, encoder);
+        resolved = newResolver();
+    }
+
+    /**
+     * @param type class of prepared expression
+     * @return encoder of the {@code type} or of its nearest superclass, or
+     * {@code null} if there is no such encoder
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends PreparedExpression> CopyEncoder<T> get(Class<T> type) {
+        return (CopyEncoder<T>) resolved.get(type);
+    }
+
+    private static ClassValue<CopyEncoder<?>> newResolver() {
+        return new ClassValue<CopyEncoder<?>>() {
+            @Override
+            protected CopyEncoder<?> computeValue(Class<?> type) {
+                for (Class<?> cl = type; cl != null; cl = cl.getSuperclass()) {
+                    CopyEncoder<?> encoder = ENCODERS.get(cl);
+                    if (encoder != null)
+                        return encoder;
+                }
+
+                return null;
+            }
+        };
+    }
+
+    @FunctionalInterface
+    private interface BinaryWriter<T> {
+        void write(T expression, DataOutput out) throws IOException;
+    }
+
+    private static <T extends PreparedExpression> CopyEncoder<T> encoder(Function<T, String> text, BinaryWriter<T> binary) {
+        return new CopyEncoder<T>() {
+            @Override
+            public String text(T expression) {
+                return text.apply(expression);
+            }
+
+            @Override
+            public void binary(T expression, DataOutput out) throws IOException {
+                binary.write(expression, out);
+            }
+        };
+    }
+
+    private static void utf8(String value, DataOutput out) throws IOException {
+        out.write(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void date(LocalDate date, DataOutput out) throws IOException {
+        out.writeInt((int) (date.toEpochDay() - PG_EPOCH_DAYS));
+    }
+
+    private static void time(LocalTime time, DataOutput out) throws IOException {
+        out.writeLong(time.toNanoOfDay() / 1000);
+    }
+
+    private static void timestamp(LocalDateTime timestamp, DataOutput out) throws IOException {
+        out.writeLong(micros(timestamp.toEpochSecond(ZoneOffset.UTC), timestamp.getNano()));
+    }
+
+    /**
+     * @return microseconds since the PostgreSQL epoch
+     */
+    private static long micros(long epochSecond, int nano) {
+        return (epochSecond - PG_EPOCH_SECONDS) * 1_000_000 + nano / 1000;
+    }
+
+    private static void temporal(Temporal value, DataOutput out) throws IOException {
+        if (value instanceof LocalDate) {
+            date((LocalDate) value, out);
+        } else if (value instanceof LocalTime) {
+            time((LocalTime) value, out);
+        } else if (value instanceof LocalDateTime) {
+            timestamp((LocalDateTime) value, out);
+        } else if (value instanceof OffsetDateTime) {
+            OffsetDateTime dateTime = (OffsetDateTime) value;
+            out.writeLong(micros(dateTime.toEpochSecond(), dateTime.getNano()));
+        } else if (value instanceof OffsetTime) {
+            OffsetTime time = (OffsetTime) value;
+            time(time.toLocalTime(), out);
+            // timetz keeps the offset in seconds west of UTC
+            out.writeInt(-time.getOffset().getTotalSeconds());
+        } else {
+            throw new IllegalArgumentException("Temporal " + value.getClass().getName() + " cannot be copied");
+        }
+    }
+
+    /**
+     * Writes a numeric: number of digits, weight of the first digit, sign,
+     * display scale and the digits in base 10000, those are aligned to
+     * the decimal point.
+     */
+    private static void numeric(BigDecimal value, DataOutput out) throws IOException {
+        BigDecimal abs = value.abs();
+        if (abs.scale() < 0)
+            abs = abs.setScale(0);
+
+        String plain    = abs.toPlainString();
+        int    point    = plain.indexOf('.');
+        String integer  = point < 0 ? plain : plain.substring(0, point);
+        String fraction = point < 0 ? "" : plain.substring(point + 1);
+
+        int zeros = 0;
+        while (zeros < integer.length() && integer.charAt(zeros) == '0')
+            zeros++;
+
+        integer = "000".substring(0, (4 - (integer.length() - zeros) % 4) % 4) + integer.substring(zeros);
+        fraction = fraction + "000".substring(0, (4 - fraction.length() % 4) % 4);
+
+        int     groups = integer.length() / 4;
+        short[] digits = new short[groups + fraction.length() / 4];
+        for (int i = 0; i < digits.length; i++)
+            digits[i] = i < groups
+               ? Short.parseShort(integer.substring(i * 4, i * 4 + 4))
+               : Short.parseShort(fraction.substring((i - groups) * 4, (i - groups) * 4 + 4));
+
+        int from = 0;
+        int to   = digits.length;
+        while (from < to && digits[from] == 0)
+            from++;
+        while (to > from && digits[to - 1] == 0)
+            to--;
+
+        out.writeShort(to - from);
+        out.writeShort(from == to ? 0 : groups - 1 - from);
+        out.writeShort(value.signum() < 0 ? NUMERIC_NEGATIVE : NUMERIC_POSITIVE);
+        out.writeShort(abs.scale());
+
+        for (int i = from; i < to; i++)
+            out.writeShort(digits[i]);
+    }
+
+    /**
+     * @return bytea in the hex format, e.g. \x0aff
+     */
+    private static String hex(byte[] bytes) {
+        char[] chars = new char[2 + bytes.length * 2];
+        chars[0] = '\\';
+        chars[1] = 'x';
+
+        for (int i = 0; i < bytes.length; i++) {
+            chars[2 + i * 2] = HEX[(bytes[i] >> 4) & 0xf];
+            chars[3 + i * 2] = HEX[bytes[i] & 0xf];
+        }
+
+        return new String(chars);
+    }
+
+    private static byte[] readAll(InputStream stream) {
+        try {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            stream.transferTo(out);
+            return out.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ *  Queryman. Java tools for working with queries of PostgreSQL database.
+ *
+ *  License: MIT License
+ *  To see license follow by http://queryman.org/license.txt
+ */
+package org.queryman.builder.ast;
+
+/**
+ * Data formats of {@code COPY} statement.
+ *
+ * @author Timur Shaidullin
+ */
+public enum CopyFormat {
+    /**
+     * Comma separated values. Each value, except NULL, is quoted.
+     */
+    CSV("csv"),
+
+    /**
+     * PostgreSQL binary format. It is the fastest one, but the Java types of
+     * values must match the types of columns exactly, e.g. {@code Long}
+     * for bigint.
+     */
+    BINARY("binary");
+
+    private final String name;
+
+    CopyFormat(String name) {
+        this.name = name;
+    }
+
+    /**
+     * @return name of format, as it is written in the {@code FORMAT} option
+     */
+    public String getName() {
+        return name;
+    }
+}
@@ -0,0 +1,236 @@
+/*
+ *  Queryman. Java tools for working with queries of PostgreSQL database.
+ *
+ *  License: MIT License
+ *  To see license follow by http://queryman.org/license.txt
+ */
+package org.queryman.builder.ast;
+
+import org.queryman.builder.Queryman;
+import org.queryman.builder.token.Expression;
+import org.queryman.builder.token.PreparedExpression;
+import org.queryman.builder.token.expression.NullExpression;
+import org.queryman.builder.token.expression.prepared.ParamExpression;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+
+/**
+ * Encodes rows to the {@code COPY} data on demand. The rows are pulled
+ * from the iterator only when the buffered data has been read, and the
+ * buffer is filled up to its size, so a memory consumption does not depend
+ * on the number of rows.
+ *
+ * Each value is converted to a prepared expression as a constant of query
+ * and is encoded by its {@link CopyEncoder}.
+ *
+ * @author Timur Shaidullin
+ */
+final class CopyRowStream extends InputStream {
+    private static final byte[] SIGNATURE = { 'P', 'G', 'C', 'O', 'P', 'Y', '\n', (byte) 0xff, '\r', '\n', 0 };
+
+    private final Iterator<? extends Object[]> rows;
+    private final CopyFormat                   format;
+    private final int                          columns;
+    private final int                          bufferSize;
+    private final Buffer                       buffer = new Buffer();
+    private final DataOutputStream             out    = new DataOutputStream(buffer);
+    private final StringBuilder                line   = new StringBuilder();
+
+    private int     position;
+    private long    count;
+    private boolean finished;
+
+    /**
+     * @param rows rows to encode
+     * @param format format of data
+     * @param columns number of values of each row, or {@code -1} if it is not checked
+     * @param bufferSize size of buffer
+     */
+    CopyRowStream(Iterator<? extends Object[]> rows, CopyFormat format, int columns, int bufferSize) {
+        if (bufferSize <= 0)
+            throw new IllegalArgumentException("Buffer size must be positive: " + bufferSize);
+
+        this.rows = rows;
+        this.format = format;
+        this.columns = columns;
+        this.bufferSize = bufferSize;
+
+        if (format == CopyFormat.BINARY) {
+            // signature, flags and length of header extension
+            buffer.write(SIGNATURE, 0, SIGNATURE.length);
+            buffer.writeInt(0);
+            buffer.writeInt(0);
+        }
+    }
+
+    /**
+     * @return number of rows encoded so far
+     */
+    long getCount() {
+        return count;
+    }
+
+    @Override
+    public int read() throws IOException {
+        byte[] b = new byte[1];
+        return read(b, 0, 1) < 0 ? -1 : b[0] & 0xff;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0)
+            return 0;
+
+        if (position == buffer.size() && !fill())
+            return -1;
+
+        int length = Math.min(len, buffer.size() - position);
+        System.arraycopy(buffer.array(), position, b, off, length);
+        position += length;
+
+        return length;
+    }
+
+    @Override
+    public int available() {
+        return buffer.size() - position;
+    }
+
+    /**
+     * @return false if there is no data anymore
+     */
+    private boolean fill() throws IOException {
+        buffer.reset();
+        position = 0;
+
+        while (!finished && buffer.size() < bufferSize) {
+            if (rows.hasNext()) {
+                encode(rows.next());
+            } else {
+                if (format == CopyFormat.BINARY)
+                    out.writeShort(-1);
+
+                finished = true;
+            }
+        }
+
+        return buffer.size() > 0;
+    }
+
+    private void encode(Object[] row) throws IOException {
+        if (columns >= 0 && row.length != columns)
+            throw new IllegalArgumentException(
+               String.format("Row %d has %d values, but %d columns are copied", count + 1, row.length, columns)
+            );
+
+        count++;
+
+        if (format == CopyFormat.BINARY)
+            encodeBinary(row);
+        else
+            encodeCsv(row);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void encodeBinary(Object[] row) throws IOException {
+        out.writeShort(row.length);
+
+        for (Object value : row) {
+            PreparedExpression expression = toPreparedExpression(value);
+            if (expression == null) {
+                out.writeInt(-1);
+                continue;
+            }
+
+            int at = buffer.size();
+            out.writeInt(0);
+            encoder(expression).binary(expression, out);
+            buffer.putInt(at, buffer.size() - at - 4);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void encodeCsv(Object[] row) throws IOException {
+        line.setLength(0);
+
+        for (int i = 0; i < row.length; i++) {
+            if (i > 0)
+                line.append(',');
+
+            PreparedExpression expression = toPreparedExpression(row[i]);
+            if (expression == null)
+                continue;
+
+            String text = encoder(expression).text(expression);
+
+            line.append('"');
+            for (int j = 0; j < text.length(); j++) {
+                char c = text.charAt(j);
+                if (c == '"')
+                    line.append('"');
+
+                line.append(c);
+            }
+            line.append('"');
+        }
+
+        line.append('\n');
+        out.write(line.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @return prepared expression or {@code null} for NULL
+     *
+     * @throws IllegalArgumentException if the {@code value} is not a constant
+     */
+    private static PreparedExpression toPreparedExpression(Object value) {
+        if (value == null)
+            return null;
+
+        Expression expression = Queryman.asConstant(value);
+        if (expression instanceof NullExpression)
+            return null;
+
+        if (expression instanceof PreparedExpression && !(expression instanceof ParamExpression))
+            return (PreparedExpression) expression;
+
+        throw new IllegalArgumentException("Value is not a constant: " + value);
+    }
+
+    private static CopyEncoder encoder(PreparedExpression expression) {
+        CopyEncoder encoder = CopyEncoders.get(expression.getClass());
+        if (encoder == null)
+            throw new IllegalArgumentException("There is no COPY encoder for " + expression.getClass().getName());
+
+        return encoder;
+    }
+
+    /**
+     * Exposes the array of {@link ByteArrayOutputStream} to avoid copying
+     * it on each read.
+     */
+    private static final class Buffer extends ByteArrayOutputStream {
+        byte[] array() {
+            return buf;
+        }
+
+        void writeInt(int value) {
+            write(value >>> 24);
+            write(value >>> 16);
+            write(value >>> 8);
+            write(value);
+        }
+
+        void putInt(int at, int value) {
+            buf[at] = (byte) (value >>> 24);
+            buf[at + 1] = (byte) (value >>> 16);
+            buf[at + 2] = (byte) (value >>> 8);
+            buf[at + 3] = (byte) value;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ *  Queryman. Java tools for working with queries of PostgreSQL database.
+ *
+ *  License: MIT License
+ *  To see license follow by http://queryman.org/license.txt
+ */
+package org.queryman.builder.ast;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Histogram of non-negative values with log-linear buckets, such as
+ * the buckets of HdrHistogram. Each power of two range is split into
+ * {@link #SUB_BUCKETS} linear buckets, so a recorded value is kept with
+ * a relative error below 25%. The values below {@link #SUB_BUCKETS} are
+ * exact.
+ *
+ * Recording is lock-free; a snapshot taken during recording may be
+ * slightly inconsistent.
+ *
+ * @author Timur Shaidullin
+ */
+public final class Histogram {
+    private static final int SUB_BUCKET_BITS = 2;
+    private static final int SUB_BUCKETS     = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKETS         = (64 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final LongAdder       count  = new LongAdder();
+    private final LongAdder       sum    = new LongAdder();
+    private final LongAccumulator min    = new LongAccumulator(Math::min, Long.MAX_VALUE);
+    private final LongAccumulator max    = new LongAccumulator(Math::max, Long.MIN_VALUE);
+
+    /**
+     * @param value value, a negative value is recorded as {@code 0}
+     */
+    public void record(long value) {
+        if (value < 0)
+            value = 0;
+
+        counts.incrementAndGet(index(value));
+        count.increment();
+        sum.add(value);
+        min.accumulate(value);
+        max.accumulate(value);
+    }
+
+    /**
+     * @return snapshot of the recorded values
+     */
+    public HistogramSnapshot snapshot() {
+        long[] buckets = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++)
+            buckets[i] = counts.get(i);
+
+        long total = count.sum();
+        return total == 0
+           ? HistogramSnapshot.EMPTY
+           : new HistogramSnapshot(buckets, total, sum.sum(), min.get(), max.get());
+    }
+
+    static int index(long value) {
+        if (value < SUB_BUCKETS)
+            return (int) value;
+
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int sub      = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + sub;
+    }
+
+    /**
+     * @return the highest value of the bucket
+     */
+    static long highestValue(int index) {
+        if (index < SUB_BUCKETS)
+            return index;
+
+        int exponent = index / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        int sub      = index % SUB_BUCKETS;
+        int shift    = exponent - SUB_BUCKET_BITS;
+
+        return ((long) (SUB_BUCKETS + sub) << shift) + (1L << shift) - 1;
+    }
+}
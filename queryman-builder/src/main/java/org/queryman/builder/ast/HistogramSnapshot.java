@@ -0,0 +1,85 @@
+/*
+ *  Queryman. Java tools for working with queries of PostgreSQL database.
+ *
+ *  License: MIT License
+ *  To see license follow by http://queryman.org/license.txt
+ */
+package org.queryman.builder.ast;
+
+/**
+ * Immutable copy of a {@link Histogram}. A percentile is reported as
+ * the highest value of the bucket it falls into, but not above
+ * the maximum recorded value.
+ *
+ * @author Timur Shaidullin
+ */
+public final class HistogramSnapshot {
+    static final HistogramSnapshot EMPTY = new HistogramSnapshot(new long[0], 0, 0, 0, 0);
+
+    private final long[] buckets;
+    private final long   count;
+    private final long   sum;
+    private final long   min;
+    private final long   max;
+
+    HistogramSnapshot(long[] buckets, long count, long sum, long min, long max) {
+        this.buckets = buckets;
+        this.count = count;
+        this.sum = sum;
+        this.min = min;
+        this.max = max;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getMin() {
+        return min;
+    }
+
+    public long getMax() {
+        return max;
+    }
+
+    public double getMean() {
+        return count == 0 ? 0 : (double) sum / count;
+    }
+
+    public long getP50() {
+        return getValueAtPercentile(50);
+    }
+
+    public long getP90() {
+        return getValueAtPercentile(90);
+    }
+
+    public long getP99() {
+        return getValueAtPercentile(99);
+    }
+
+    public long getP999() {
+        return getValueAtPercentile(99.9);
+    }
+
+    /**
+     * @param percentile percentile from {@code 0} to {@code 100}
+     * @return value, those the {@code percentile} of recorded values do not
+     * exceed, or {@code 0} if nothing is recorded
+     */
+    public long getValueAtPercentile(double percentile) {
+        if (count == 0)
+            return 0;
+
+        long rank = Math.max(1, (long) Math.ceil(Math.min(percentile, 100) / 100 * count));
+        long seen = 0;
+
+        for (int i = 0; i < buckets.length; i++) {
+            seen += buckets[i];
+            if (seen >= rank)
+                return Math.min(Histogram.highestValue(i), max);
+        }
+
+        return max;
+    }
+}
@@ -7,32 +7,16 @@
 package org.queryman.builder.ast;
 
 import org.queryman.builder.token.PreparedExpression;
-import org.queryman.builder.token.expression.ListExpression;
-import org.queryman.builder.token.expression.prepared.ArrayExpression;
-import org.queryman.builder.token.expression.prepared.BigDecimalExpression;
-import org.queryman.builder.token.expression.prepared.BooleanExpression;
-import org.queryman.builder.token.expression.prepared.ByteExpression;
-import org.queryman.builder.token.expression.prepared.BytesExpression;
-import org.queryman.builder.token.expression.prepared.DateExpression;
-import org.queryman.builder.token.expression.prepared.DollarStringExpression;
-import org.queryman.builder.token.expression.prepared.DoubleExpression;
-import org.queryman.builder.token.expression.prepared.FloatExpression;
-import org.queryman.builder.token.expression.prepared.IntegerExpression;
-import org.queryman.builder.token.expression.prepared.LongExpression;
-import org.queryman.builder.token.expression.prepared.ShortExpression;
-import org.queryman.builder.token.expression.prepared.StringExpression;
-import org.queryman.builder.token.expression.prepared.TimeExpression;
-import org.queryman.builder.token.expression.prepared.TimestampExpression;
-import org.queryman.builder.token.expression.prepared.UUIDExpression;
-import org.queryman.builder.utils.ArrayUtils;
 
-import java.sql.Array;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
-import java.util.Map;
+import java.sql.Types;
 
 /**
+ * Binds prepared expressions to a prepared statement. Each expression is
+ * dispatched to its {@link JdbcBinder} looked up in {@link JdbcBinders}.
+ *
  * @author Timur Shaidullin
  */
 class JavaTypeToJdbc {
@@ -44,83 +28,26 @@ class JavaTypeToJdbc {
         this.statement = statement;
     }
 
-    PreparedStatement bind(Map<Integer, PreparedExpression> params) throws SQLException {
-        for (Map.Entry<Integer, PreparedExpression> expr : params.entrySet()) {
-
-            if (expr.getValue() instanceof BooleanExpression)
-                statement.setBoolean(expr.getKey(), ((BooleanExpression) expr.getValue()).getValue());
-
-            else if (expr.getValue() instanceof ShortExpression)
-                statement.setShort(expr.getKey(), ((ShortExpression) expr.getValue()).getValue());
-
-            else if (expr.getValue() instanceof ByteExpression)
-                statement.setByte(expr.getKey(), ((ByteExpression) expr.getValue()).getValue());
-
-            else if (expr.getValue() instanceof IntegerExpression)
-                statement.setInt(expr.getKey(), ((IntegerExpression) expr.getValue()).getValue());
-
-            else if (expr.getValue() instanceof LongExpression)
-                statement.setLong(expr.getKey(), ((LongExpression) expr.getValue()).getValue());
-
-            else if (expr.getValue() instanceof FloatExpression)
-                statement.setFloat(expr.getKey(), ((FloatExpression) expr.getValue()).getValue());
-
-            else if (expr.getValue() instanceof DoubleExpression)
-                statement.setDouble(expr.getKey(), ((DoubleExpression) expr.getValue()).getValue());
-
-            else if (expr.getValue() instanceof BigDecimalExpression)
-                statement.setBigDecimal(expr.getKey(), ((BigDecimalExpression) expr.getValue()).getValue());
-
-            else if (expr.getValue() instanceof StringExpression)
-                statement.setString(expr.getKey(), ((StringExpression) expr.getValue()).getValue());
+    @SuppressWarnings("unchecked")
+    PreparedStatement bind(Parameters params) throws SQLException {
+        Object event = QueryEvents.binding();
 
-            else if (expr.getValue() instanceof DollarStringExpression)
-                statement.setString(expr.getKey(), ((DollarStringExpression) expr.getValue()).getValue());
+        for (int i = 1; i <= params.size(); i++) {
+            PreparedExpression expression = params.get(i);
 
-            else if (expr.getValue() instanceof DateExpression)
-                statement.setDate(expr.getKey(), ((DateExpression) expr.getValue()).getValue());
-
-            else if (expr.getValue() instanceof TimeExpression)
-                statement.setTime(expr.getKey(), ((TimeExpression) expr.getValue()).getValue());
-
-            else if (expr.getValue() instanceof TimestampExpression)
-                statement.setTimestamp(expr.getKey(), ((TimestampExpression) expr.getValue()).getValue());
-
-            else if (expr.getValue() instanceof UUIDExpression)
-                statement.setObject(expr.getKey(), ((UUIDExpression) expr.getValue()).getValue());
-
-            else if (expr.getValue() instanceof ArrayExpression) {
-                ArrayExpression arrayExpression = ((ArrayExpression) expr.getValue());
-
-                String typeName = arrayExpression.getValue().getClass().getComponentType().getSimpleName();
-                Array arr = connection.createArrayOf(
-                   typeName.toLowerCase(),
-                   arrayExpression.getValue()
-                );
-
-                statement.setArray(expr.getKey(), arr);
+            if (expression == null) {
+                statement.setNull(i, Types.NULL);
+                continue;
             }
 
-            else if (expr.getValue() instanceof BytesExpression) {
-                Byte[] bytes = ((BytesExpression) expr.getValue()).getValue();
-                statement.setBytes(expr.getKey(), ArrayUtils.toPrimitive(bytes));
-            }
-
-            else if (expr.getValue() instanceof ListExpression) {
-                throw new RuntimeException("It's needed to implement");
-            }
+            JdbcBinder binder = JdbcBinders.get(expression.getClass());
+            if (binder == null)
+                throw new IllegalStateException("There is no binder for " + expression.getClass().getName());
 
+            binder.bind(statement, i, expression, connection);
         }
-        // bind parameters
-        /*
-        setRef
-        setBlob
-        setClob
-
 
-        setRowId
-        setSQLXML
-         */
+        QueryEvents.bound(event, params.size());
 
         return statement;
     }
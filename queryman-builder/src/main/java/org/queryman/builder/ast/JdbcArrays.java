@@ -0,0 +1,114 @@
+/*
+ *  Queryman. Java tools for working with queries of PostgreSQL database.
+ *
+ *  License: MIT License
+ *  To see license follow by http://queryman.org/license.txt
+ */
+package org.queryman.builder.ast;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Creates {@link Array}s for the array expressions.
+ *
+ * An array of primitives is passed to the PostgreSQL driver as is, if the
+ * driver supports it (PgJDBC 42.2.16+ provides
+ * {@code PGConnection#createArrayOf(String, Object)}). Otherwise it is boxed
+ * once, right before {@link Connection#createArrayOf(String, Object[])}.
+ *
+ * @author Timur Shaidullin
+ */
+final class JdbcArrays {
+    private static final Map<Class<?>, String> TYPE_NAMES = Map.ofEntries(
+       Map.entry(Boolean.class, "bool"),
+       Map.entry(Short.class, "int2"),
+       Map.entry(Integer.class, "int4"),
+       Map.entry(Long.class, "int8"),
+       Map.entry(Float.class, "float4"),
+       Map.entry(Double.class, "float8"),
+       Map.entry(BigDecimal.class, "numeric"),
+       Map.entry(String.class, "text"),
+       Map.entry(Date.class, "date"),
+       Map.entry(Time.class, "time"),
+       Map.entry(Timestamp.class, "timestamp"),
+       Map.entry(UUID.class, "uuid")
+    );
+
+    private static final Class<?> PG_CONNECTION   = pgConnection();
+    private static final Method   CREATE_ARRAY_OF = createArrayOf(PG_CONNECTION);
+
+    private JdbcArrays() {
+    }
+
+    /**
+     * @param component component type of array
+     * @return PostgreSQL name of the type, e.g. int4
+     */
+    static String typeName(Class<?> component) {
+        String name = TYPE_NAMES.get(component);
+
+        return name != null ? name : component.getSimpleName().toLowerCase();
+    }
+
+    /**
+     * @param connection connection
+     * @param typeName PostgreSQL name of element type
+     * @param array array of primitives or objects
+     * @return SQL array
+     *
+     * @throws SQLException if the array cannot be created
+     */
+    static Array createArrayOf(Connection connection, String typeName, Object array) throws SQLException {
+        if (array instanceof Object[])
+            return connection.createArrayOf(typeName, (Object[]) array);
+
+        if (CREATE_ARRAY_OF != null && connection.isWrapperFor(PG_CONNECTION)) {
+            try {
+                return (Array) CREATE_ARRAY_OF.invoke(connection.unwrap(PG_CONNECTION), typeName, array);
+            } catch (InvocationTargetException e) {
+                if (e.getCause() instanceof SQLException)
+                    throw (SQLException) e.getCause();
+
+                throw new SQLException(e.getCause());
+            } catch (IllegalAccessException e) {
+                // fall through to the boxed array
+            }
+        }
+
+        int      length = java.lang.reflect.Array.getLength(array);
+        Object[] values = new Object[length];
+        for (int i = 0; i < length; i++)
+            values[i] = java.lang.reflect.Array.get(array, i);
+
+        return connection.createArrayOf(typeName, values);
+    }
+
+    private static Class<?> pgConnection() {
+        try {
+            return Class.forName("org.postgresql.PGConnection", false, JdbcArrays.class.getClassLoader());
+        } catch (ClassNotFoundException | LinkageError e) {
+            return null;
+        }
+    }
+
+    private static Method createArrayOf(Class<?> pgConnection) {
+        if (pgConnection == null)
+            return null;
+
+        try {
+            return pgConnection.getMethod("createArrayOf", String.class, Object.class);
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+}
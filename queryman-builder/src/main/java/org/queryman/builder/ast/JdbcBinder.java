@@ -0,0 +1,34 @@
+/*
+ *  Queryman. Java tools for working with queries of PostgreSQL database.
+ *
+ *  License: MIT License
+ *  To see license follow by http://queryman.org/license.txt
+ */
+package org.queryman.builder.ast;
+
+import org.queryman.builder.token.PreparedExpression;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+/**
+ * Sets a value of a prepared expression to a prepared statement, using one of
+ * {@code setXXX} methods.
+ *
+ * @see JdbcBinders#register(Class, JdbcBinder)
+ *
+ * @author Timur Shaidullin
+ */
+@FunctionalInterface
+public interface JdbcBinder<T extends PreparedExpression> {
+    /**
+     * @param statement prepared statement
+     * @param index index of the parameter
+     * @param expression prepared expression
+     * @param connection connection the {@code statement} is created by
+     *
+     * @throws SQLException if the statement fails
+     */
+    void bind(PreparedStatement statement, int index, T expression, Connection connection) throws SQLException;
+}
@@ -0,0 +1,22 @@
+/*
+ *  Queryman. Java tools for working with queries of PostgreSQL database.
+ *
+ *  License: MIT License
+ *  To see license follow by http://queryman.org/license.txt
+ */
+package org.queryman.builder.ast;
+
+/**
+ * Service provider interface to register custom {@link JdbcBinder}s. The
+ * implementations are looked up by {@link java.util.ServiceLoader}, so they
+ * must be listed in
+ * {@code META-INF/services/org.queryman.builder.ast.JdbcBinderProvider}.
+ *
+ * @author Timur Shaidullin
+ */
+public interface JdbcBinderProvider {
+    /**
+     * Registers binders by {@link JdbcBinders#register(Class, JdbcBinder)}.
+     */
+    void registerBinders();
+}
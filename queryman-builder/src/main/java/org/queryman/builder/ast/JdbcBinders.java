@@ -0,0 +1,146 @@
+/*
+ *  Queryman. Java tools for working with queries of PostgreSQL database.
+ *
+ *  License: MIT License
+ *  To see license follow by http://queryman.org/license.txt
+ */
+package org.queryman.builder.ast;
+
+import org.queryman.builder.token.PreparedExpression;
+import org.queryman.builder.token.expression.prepared.ArrayExpression;
+import org.queryman.builder.token.expression.prepared.BigDecimalExpression;
+import org.queryman.builder.token.expression.prepared.BinaryStreamExpression;
+import org.queryman.builder.token.expression.prepared.BooleanExpression;
+import org.queryman.builder.token.expression.prepared.ByteExpression;
+import org.queryman.builder.token.expression.prepared.BytesExpression;
+import org.queryman.builder.token.expression.prepared.DateExpression;
+import org.queryman.builder.token.expression.prepared.DollarStringExpression;
+import org.queryman.builder.token.expression.prepared.DoubleExpression;
+import org.queryman.builder.token.expression.prepared.EnumExpression;
+import org.queryman.builder.token.expression.prepared.FloatExpression;
+import org.queryman.builder.token.expression.prepared.IntegerExpression;
+import org.queryman.builder.token.expression.prepared.ListArrayExpression;
+import org.queryman.builder.token.expression.prepared.LongExpression;
+import org.queryman.builder.token.expression.prepared.ParamExpression;
+import org.queryman.builder.token.expression.prepared.PrimitiveArrayExpression;
+import org.queryman.builder.token.expression.prepared.ShortExpression;
+import org.queryman.builder.token.expression.prepared.StringExpression;
+import org.queryman.builder.token.expression.prepared.TemporalExpression;
+import org.queryman.builder.token.expression.prepared.TimeExpression;
+import org.queryman.builder.token.expression.prepared.TimestampExpression;
+import org.queryman.builder.token.expression.prepared.UUIDExpression;
+
+import java.sql.Array;
+import java.sql.Types;
+import java.util.Map;
+import java.util.Objects;
+import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry of {@link JdbcBinder}s keyed by a class of prepared expression.
+ * A binder of a class is resolved once through its superclasses and is
+ * cached by {@link ClassValue}, so binding a parameter is a single lookup.
+ *
+ * The binders for the built-in expressions are registered here. Custom
+ * expressions, e.g. JSONB, inet or enum, register their binders by
+ * {@link #register(Class, JdbcBinder)} or by a {@link JdbcBinderProvider}.
+ *
+ * @author Timur Shaidullin
+ */
+public final class JdbcBinders {
+    private static final Map<Class<?>, JdbcBinder<?>> BINDERS = new ConcurrentHashMap<>();
+
+    private static volatile ClassValue<JdbcBinder<?>> resolved = newResolver();
+
+    static {
+        register(BooleanExpression.class, (s, i, e, c) -> s.setBoolean(i, e.getValue()));
+        register(ShortExpression.class, (s, i, e, c) -> s.setShort(i, e.getValue()));
+        register(ByteExpression.class, (s, i, e, c) -> s.setByte(i, e.getValue()));
+        register(IntegerExpression.class, (s, i, e, c) -> s.setInt(i, e.getInt()));
+        register(LongExpression.class, (s, i, e, c) -> s.setLong(i, e.getLong()));
+        register(FloatExpression.class, (s, i, e, c) -> s.setFloat(i, e.getValue()));
+        register(DoubleExpression.class, (s, i, e, c) -> s.setDouble(i, e.getDouble()));
+        register(BigDecimalExpression.class, (s, i, e, c) -> s.setBigDecimal(i, e.getValue()));
+        register(StringExpression.class, (s, i, e, c) -> s.setString(i, e.getValue()));
+        register(DollarStringExpression.class, (s, i, e, c) -> s.setString(i, e.getValue()));
+        register(DateExpression.class, (s, i, e, c) -> s.setDate(i, e.getValue()));
+        register(TimeExpression.class, (s, i, e, c) -> s.setTime(i, e.getValue()));
+        register(TimestampExpression.class, (s, i, e, c) -> s.setTimestamp(i, e.getValue()));
+        register(UUIDExpression.class, (s, i, e, c) -> s.setObject(i, e.getValue()));
+        register(TemporalExpression.class, (s, i, e, c) -> s.setObject(i, e.getValue()));
+        register(EnumExpression.class, (s, i, e, c) -> s.setObject(i, e.getValue().name(), Types.OTHER));
+        register(BytesExpression.class, (s, i, e, c) -> s.setBytes(i, e.getBytes()));
+        register(BinaryStreamExpression.class, (s, i, e, c) -> {
+            if (e.getLength() < 0)
+                s.setBinaryStream(i, e.getValue());
+            else
+                s.setBinaryStream(i, e.getValue(), e.getLength());
+        });
+        register(PrimitiveArrayExpression.class, (s, i, e, c) ->
+           s.setArray(i, JdbcArrays.createArrayOf(c, e.getTypeName(), e.getArray()))
+        );
+        register(ListArrayExpression.class, (s, i, e, c) ->
+           s.setArray(i, JdbcArrays.createArrayOf(c, JdbcArrays.typeName(e.getElementType()), e.getArray()))
+        );
+        register(ArrayExpression.class, (s, i, e, c) -> {
+            Object[] values   = e.getValue();
+            String   typeName = JdbcArrays.typeName(values.getClass().getComponentType());
+
+            Array arr = c.createArrayOf(typeName, values);
+            s.setArray(i, arr);
+        });
+        register(ParamExpression.class, (s, i, e, c) -> {
+            throw new IllegalStateException(
+               "Parameter :" + e.getParamName() + " is not bound, compile the query to a template"
+            );
+        });
+
+        for (JdbcBinderProvider provider : ServiceLoader.load(JdbcBinderProvider.class))
+            provider.registerBinders();
+    }
+
+    private JdbcBinders() {
+    }
+
+    /**
+     * Registers a binder for the {@code type} and its subclasses, those have
+     * no binder of their own. The previous binder of the {@code type} is
+     * replaced.
+     *
+     * @param type class of prepared expression
+     * @param binder binder
+     */
+    public static <T extends PreparedExpression> void register(Class<T> type, JdbcBinder<? super T> binder) {
+        Objects.requireNonNull(type);
+        Objects.requireNonNull(binder);
+
+        BINDERS.put(type, binder);
+        resolved = newResolver();
+    }
+
+    /**
+     * @param type class of prepared expression
+     * @return binder of the {@code type} or of its nearest superclass, or
+     * {@code null} if there is no such binder
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends PreparedExpression> JdbcBinder<T> get(Class<T> type) {
+        return (JdbcBinder<T>) resolved.get(type);
+    }
+
+    private static ClassValue<JdbcBinder<?>> newResolver() {
+        return new ClassValue<JdbcBinder<?>>() {
+            @Override
+            protected JdbcBinder<?> computeValue(Class<?> type) {
+                for (Class<?> cl = type; cl != null; cl = cl.getSuperclass()) {
+                    JdbcBinder<?> binder = BINDERS.get(cl);
+                    if (binder != null)
+                        return binder;
+                }
+
+                return null;
+            }
+        };
+    }
+}
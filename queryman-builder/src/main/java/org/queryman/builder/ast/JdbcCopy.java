@@ -0,0 +1,127 @@
+/*
+ *  Queryman. Java tools for working with queries of PostgreSQL database.
+ *
+ *  License: MIT License
+ *  To see license follow by http://queryman.org/license.txt
+ */
+package org.queryman.builder.ast;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.Iterator;
+
+/**
+ * Runs {@code COPY} statements through the copy API of the PostgreSQL
+ * driver ({@code PGConnection#getCopyAPI()}). The driver is not a compile
+ * time dependency, so the API is looked up once by reflection.
+ *
+ * @author Timur Shaidullin
+ */
+public final class JdbcCopy {
+    /**
+     * Default size of buffer of {@code COPY} data, in bytes.
+     */
+    public static final int DEFAULT_BUFFER_SIZE = 65536;
+
+    private static final Class<?> PG_CONNECTION = pgConnection();
+    private static final Method   GET_COPY_API  = method(PG_CONNECTION, "getCopyAPI");
+    private static final Method   COPY_IN       = GET_COPY_API == null
+       ? null
+       : method(GET_COPY_API.getReturnType(), "copyIn", String.class, InputStream.class, int.class);
+    private static final Method   COPY_OUT      = GET_COPY_API == null
+       ? null
+       : method(GET_COPY_API.getReturnType(), "copyOut", String.class, OutputStream.class);
+
+    private JdbcCopy() {
+    }
+
+    /**
+     * Streams the {@code rows} into {@code COPY ... FROM STDIN}. The rows are
+     * encoded while the driver sends them, at most {@code bufferSize} bytes
+     * (plus a single row) are held in memory.
+     *
+     * @param conn connection
+     * @param sql {@code COPY ... FROM STDIN} statement
+     * @param format format of the statement
+     * @param columns number of columns, or {@code -1} if they are not specified
+     * @param rows rows, each row is an array of values
+     * @param bufferSize size of buffer
+     * @return number of copied rows
+     *
+     * @throws SQLException if the copy fails or the driver does not support it
+     * @throws IllegalArgumentException if a value cannot be encoded
+     */
+    public static long copyIn(Connection conn, String sql, CopyFormat format, int columns,
+                              Iterator<? extends Object[]> rows, int bufferSize) throws SQLException {
+        InputStream data = new CopyRowStream(rows, format, columns, bufferSize);
+
+        return (Long) invoke(COPY_IN, copyManager(conn), sql, data, bufferSize);
+    }
+
+    /**
+     * Streams the result of {@code COPY ... TO STDOUT} into the {@code out}.
+     * The driver writes the data as it is received, the rows are not
+     * materialised.
+     *
+     * @param conn connection
+     * @param sql {@code COPY ... TO STDOUT} statement
+     * @param out output, it is not closed
+     * @return number of copied rows
+     *
+     * @throws SQLException if the copy fails or the driver does not support it
+     */
+    public static long copyOut(Connection conn, String sql, OutputStream out) throws SQLException {
+        return (Long) invoke(COPY_OUT, copyManager(conn), sql, out);
+    }
+
+    private static Object copyManager(Connection conn) throws SQLException {
+        if (COPY_IN == null || COPY_OUT == null || !conn.isWrapperFor(PG_CONNECTION))
+            throw new SQLFeatureNotSupportedException("COPY is supported only by the PostgreSQL JDBC driver");
+
+        return invoke(GET_COPY_API, conn.unwrap(PG_CONNECTION));
+    }
+
+    private static Object invoke(Method method, Object target, Object... args) throws SQLException {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            Throwable cause = e.getCause();
+
+            if (cause instanceof SQLException)
+                throw (SQLException) cause;
+            if (cause instanceof RuntimeException)
+                throw (RuntimeException) cause;
+            if (cause instanceof Error)
+                throw (Error) cause;
+
+            // IOException of the data stream or of the connection
+            throw new SQLException(cause.getMessage(), cause);
+        } catch (IllegalAccessException e) {
+            throw new SQLException(e);
+        }
+    }
+
+    private static Class<?> pgConnection() {
+        try {
+            return Class.forName("org.postgresql.PGConnection", false, JdbcCopy.class.getClassLoader());
+        } catch (ClassNotFoundException | LinkageError e) {
+            return null;
+        }
+    }
+
+    private static Method method(Class<?> type, String name, Class<?>... parameters) {
+        if (type == null)
+            return null;
+
+        try {
+            return type.getMethod(name, parameters);
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ *  Queryman. Java tools for working with queries of PostgreSQL database.
+ *
+ *  License: MIT License
+ *  To see license follow by http://queryman.org/license.txt
+ */
+package org.queryman.builder.ast;
+
+import org.queryman.builder.Queryman;
+import org.queryman.builder.token.expression.prepared.ListArrayExpression;
+import org.queryman.builder.token.expression.prepared.StagedListExpression;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+/**
+ * Loads the staged lists into temporary tables on the caller's connection.
+ * A table is created once per session and per type of keys, see
+ * {@link #tableName(List, int)}. Right before each execution of a statement
+ * it is truncated, filled by a single {@code INSERT ... SELECT unnest(?)}
+ * of an array parameter and analyzed, so the planner knows its size.
+ *
+ * So the number of tables is bounded on a pooled connection, and the
+ * prepared SQL is the same for any list of the same type. Since the tables
+ * are shared by statements of a connection, the keys are loaded on each
+ * execution rather than once the statement is built, see
+ * {@link #wrap(Connection, PreparedStatement, List)}.
+ *
+ * @author Timur Shaidullin
+ */
+final class KeyStaging {
+    private KeyStaging() {
+    }
+
+    /**
+     * The name of the table depends on the type of keys. The second and
+     * following lists of the same type in a statement take a suffix, such as
+     * {@code queryman_keys_int8_2}.
+     *
+     * @param lists staged lists of a statement in order of their occurrence
+     * @param index index of the list
+     * @return name of temporary table, its single column is {@code key}
+     */
+    static String tableName(List<StagedListExpression> lists, int index) {
+        String type  = typeName(lists.get(index));
+        int    order = 1;
+
+        for (int i = 0; i < index; i++)
+            if (type.equals(typeName(lists.get(i))))
+                order++;
+
+        return order == 1 ? "queryman_keys_" + type : "queryman_keys_" + type + "_" + order;
+    }
+
+    private static String typeName(StagedListExpression list) {
+        return JdbcArrays.typeName(list.getKeys().getElementType());
+    }
+
+    /**
+     * Returns a statement, those loads the {@code lists} right before each
+     * {@code executeXXX} call and then delegates to the {@code statement}.
+     * So a statement, those is executed after another one is built, or is
+     * executed again, does not see keys of the other one.
+     *
+     * @param conn connection the statement is prepared on
+     * @param statement prepared statement
+     * @param lists staged lists of the statement
+     * @return the {@code statement} itself, if there are no staged lists,
+     * otherwise a statement, those stages them
+     */
+    static PreparedStatement wrap(Connection conn, PreparedStatement statement, List<StagedListExpression> lists) {
+        if (lists.isEmpty())
+            return statement;
+
+        List<StagedListExpression> staged = List.copyOf(lists);
+
+        return (PreparedStatement) Proxy.newProxyInstance(
+           KeyStaging.class.getClassLoader(),
+           new Class<?>[]{ PreparedStatement.class },
+           (proxy, method, args) -> {
+               if (method.getName().startsWith("execute"))
+                   stage(conn, staged);
+
+               try {
+                   return method.invoke(statement, args);
+               } catch (InvocationTargetException e) {
+                   throw e.getCause();
+               }
+           }
+        );
+    }
+
+    /**
+     * @param conn connection the statement is prepared on
+     * @param lists staged lists
+     *
+     * @throws SQLException if a table cannot be created or filled
+     */
+    static void stage(Connection conn, List<StagedListExpression> lists) throws SQLException {
+        for (int i = 0; i < lists.size(); i++)
+            stage(conn, lists.get(i), tableName(lists, i));
+    }
+
+    private static void stage(Connection conn, StagedListExpression list, String name) throws SQLException {
+        ListArrayExpression keys   = list.getKeys();
+        String              table  = "pg_temp." + name;
+        String              insert = "INSERT INTO " + table + " (key) SELECT unnest(?)";
+        Parameters          params = new Parameters(1).add(keys);
+
+        try (Statement statement = conn.createStatement()) {
+            statement.execute("CREATE TEMP TABLE IF NOT EXISTS " + name + " (key " + typeName(list) + ")");
+            statement.execute("TRUNCATE " + table);
+        }
+
+        Queryman.getSqlLogger().log(insert, params);
+
+        try (PreparedStatement statement = conn.prepareStatement(insert)) {
+            new JavaTypeToJdbc(conn, statement).bind(params);
+            statement.executeUpdate();
+        }
+
+        try (Statement statement = conn.createStatement()) {
+            statement.execute("ANALYZE " + table);
+        }
+    }
+}
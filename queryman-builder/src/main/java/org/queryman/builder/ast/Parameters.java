@@ -0,0 +1,190 @@
+/*
+ *  Queryman. Java tools for working with queries of PostgreSQL database.
+ *
+ *  License: MIT License
+ *  To see license follow by http://queryman.org/license.txt
+ */
+package org.queryman.builder.ast;
+
+import org.queryman.builder.token.PreparedExpression;
+import org.queryman.builder.token.expression.prepared.StagedListExpression;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Parameters of a prepared statement. The indexes of parameters are
+ * contiguous and start from {@code 1}, so the parameters are kept in
+ * a growable array, in order of their placeholders.
+ *
+ * It is not synchronized, a statement is bound by a single thread. It also
+ * behaves as a {@code Map<Integer, PreparedExpression>}, where the keys are
+ * the indexes, but {@link #add(PreparedExpression)} and {@link #get(int)}
+ * do not box them.
+ *
+ * Besides the parameters it collects the lists, those have to be staged
+ * into temporary tables before the statement is executed.
+ *
+ * @author Timur Shaidullin
+ */
+public final class Parameters extends AbstractMap<Integer, PreparedExpression> {
+    /**
+     * Maximum number of parameters of a single statement, those the
+     * PostgreSQL protocol allows.
+     */
+    public static final int MAX_PARAMETERS = 32767;
+
+    private PreparedExpression[]       elements;
+    private int                        size;
+    private List<StagedListExpression> staged = Collections.emptyList();
+
+    public Parameters() {
+        this(16);
+    }
+
+    /**
+     * @param capacity initial capacity
+     */
+    public Parameters(int capacity) {
+        elements = new PreparedExpression[Math.max(capacity, 1)];
+    }
+
+    /**
+     * Appends a parameter, its index is {@code size() + 1}.
+     *
+     * @param expression prepared expression, {@code null} is bound as SQL NULL
+     * @return current instance
+     */
+    public Parameters add(PreparedExpression expression) {
+        if (size == elements.length)
+            elements = Arrays.copyOf(elements, size << 1);
+
+        elements[size++] = expression;
+        return this;
+    }
+
+    /**
+     * @param index index of parameter, starting from {@code 1}
+     * @return prepared expression
+     *
+     * @throws IndexOutOfBoundsException if the {@code index} is out of range
+     */
+    public PreparedExpression get(int index) {
+        if (index < 1 || index > size)
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+
+        return elements[index - 1];
+    }
+
+    /**
+     * Registers a list, those is staged into a temporary table. It does not
+     * take an index.
+     *
+     * @param expression staged list
+     * @return name of the temporary table
+     *
+     * @see KeyStaging#tableName(List, int)
+     */
+    public String stage(StagedListExpression expression) {
+        if (staged.isEmpty())
+            staged = new ArrayList<>(1);
+
+        staged.add(expression);
+        return KeyStaging.tableName(staged, staged.size() - 1);
+    }
+
+    /**
+     * @return lists to stage in order of their occurrence
+     */
+    public List<StagedListExpression> getStaged() {
+        return staged;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public PreparedExpression get(Object key) {
+        if (!containsKey(key))
+            return null;
+
+        return elements[(Integer) key - 1];
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        if (!(key instanceof Integer))
+            return false;
+
+        int index = (Integer) key;
+        return index >= 1 && index <= size;
+    }
+
+    /**
+     * Replaces a parameter or appends it, if {@code key} is {@code size() + 1}.
+     *
+     * @throws IllegalArgumentException if the {@code key} breaks contiguity
+     * of indexes
+     */
+    @Override
+    public PreparedExpression put(Integer key, PreparedExpression value) {
+        if (key == size + 1) {
+            add(value);
+            return null;
+        }
+
+        if (!containsKey(key))
+            throw new IllegalArgumentException("Index " + key + " is not contiguous, size is " + size);
+
+        PreparedExpression previous = elements[key - 1];
+        elements[key - 1] = value;
+        return previous;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(elements, 0, size, null);
+        size = 0;
+        staged = Collections.emptyList();
+    }
+
+    @Override
+    public Set<Entry<Integer, PreparedExpression>> entrySet() {
+        return new AbstractSet<Entry<Integer, PreparedExpression>>() {
+            @Override
+            public Iterator<Entry<Integer, PreparedExpression>> iterator() {
+                return new Iterator<Entry<Integer, PreparedExpression>>() {
+                    private int index;
+
+                    @Override
+                    public boolean hasNext() {
+                        return index < size;
+                    }
+
+                    @Override
+                    public Entry<Integer, PreparedExpression> next() {
+                        if (index >= size)
+                            throw new NoSuchElementException();
+
+                        PreparedExpression value = elements[index++];
+                        return new SimpleImmutableEntry<>(index, value);
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+}
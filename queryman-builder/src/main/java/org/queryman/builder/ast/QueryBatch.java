@@ -0,0 +1,151 @@
+/*
+ *  Queryman. Java tools for working with queries of PostgreSQL database.
+ *
+ *  License: MIT License
+ *  To see license follow by http://queryman.org/license.txt
+ */
+package org.queryman.builder.ast;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Executes a {@link QueryTemplate} many times using JDBC batching. The SQL is
+ * rendered once and a single prepared statement is reused. The rows are sent
+ * to the database by {@link PreparedStatement#executeBatch()} each time
+ * the batch size is reached, and once more by {@link #execute()}.
+ *
+ * <code>
+ * try (QueryBatch batch = insertInto("book")
+ *    .columns("id", "name")
+ *    .values(param("id"), param("name"))
+ *    .batch(conn)) {
+ *
+ *    batch.add(1, "Anna Karenina")
+ *         .add(2, "War and Peace")
+ *         .execute();
+ * }
+ * </code>
+ *
+ * It is not thread-safe, as well as a prepared statement.
+ *
+ * @author Timur Shaidullin
+ */
+public final class QueryBatch implements AutoCloseable {
+    private final QueryTemplate     template;
+    private final Connection        connection;
+    private final PreparedStatement statement;
+    private final List<int[]>       updateCounts = new ArrayList<>();
+
+    private int batchSize = 1000;
+    private int pending;
+
+    QueryBatch(QueryTemplate template, Connection connection, PreparedStatement statement) {
+        this.template = template;
+        this.connection = connection;
+        this.statement = statement;
+    }
+
+    /**
+     * Sets the number of rows, those are sent to the database at once.
+     * By default it is {@code 1000}.
+     *
+     * @param batchSize number of rows
+     * @return current instance
+     */
+    public QueryBatch setBatchSize(int batchSize) {
+        if (batchSize < 1)
+            throw new IllegalArgumentException("Batch size must be positive: " + batchSize);
+
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    /**
+     * Adds a row. The values follow the order of
+     * {@link QueryTemplate#getParameterNames()}.
+     *
+     * @param values values of the parameters
+     * @return current instance
+     *
+     * @throws SQLException if the batch is failed to flush
+     */
+    public QueryBatch add(Object... values) throws SQLException {
+        return addRow(template.checkLength(values));
+    }
+
+    /**
+     * Adds a row.
+     *
+     * @param values values by the names of the parameters
+     * @return current instance
+     *
+     * @throws SQLException if the batch is failed to flush
+     */
+    public QueryBatch add(Map<String, ?> values) throws SQLException {
+        return addRow(template.toArray(values));
+    }
+
+    private QueryBatch addRow(Object[] values) throws SQLException {
+        template.setParameters(connection, statement, values);
+        statement.addBatch();
+
+        if (++pending >= batchSize)
+            flush();
+
+        return this;
+    }
+
+    /**
+     * Sends the pending rows to the database.
+     *
+     * @return update counts of the pending rows, or an empty array if there are
+     * not any
+     *
+     * @throws SQLException if the batch is failed
+     */
+    public int[] flush() throws SQLException {
+        if (pending == 0)
+            return new int[0];
+
+        int[] counts = statement.executeBatch();
+        pending = 0;
+        updateCounts.add(counts);
+
+        return counts;
+    }
+
+    /**
+     * Sends the pending rows to the database.
+     *
+     * @return update counts of all batches executed by this instance,
+     * one array per batch
+     *
+     * @throws SQLException if the batch is failed
+     */
+    public List<int[]> execute() throws SQLException {
+        flush();
+
+        return Collections.unmodifiableList(updateCounts);
+    }
+
+    /**
+     * @return number of rows are added but not sent yet
+     */
+    public int getPending() {
+        return pending;
+    }
+
+    /**
+     * Closes the prepared statement. The pending rows are discarded.
+     */
+    @Override
+    public void close() throws SQLException {
+        statement.close();
+    }
+}
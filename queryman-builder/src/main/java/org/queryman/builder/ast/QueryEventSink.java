@@ -0,0 +1,36 @@
+/*
+ *  Queryman. Java tools for working with queries of PostgreSQL database.
+ *
+ *  License: MIT License
+ *  To see license follow by http://queryman.org/license.txt
+ */
+package org.queryman.builder.ast;
+
+/**
+ * Creates and commits the JFR events for {@link QueryEvents}. The only
+ * implementation requires the {@code jdk.jfr} module, so it is compiled
+ * apart from the core and loaded by name.
+ *
+ * An event is {@code null}, if it is not enabled in a recording.
+ *
+ * @author Timur Shaidullin
+ */
+interface QueryEventSink {
+    Object assembling();
+
+    void assembled(Object event, AbstractSyntaxTree tree);
+
+    Object rendering();
+
+    void rendered(Object event,
+                  Node root,
+                  boolean prepared,
+                  boolean cacheHit,
+                  int nodeCount,
+                  long sqlLength,
+                  int parameterCount);
+
+    Object binding();
+
+    void bound(Object event, int parameterCount);
+}
@@ -0,0 +1,130 @@
+/*
+ *  Queryman. Java tools for working with queries of PostgreSQL database.
+ *
+ *  License: MIT License
+ *  To see license follow by http://queryman.org/license.txt
+ */
+package org.queryman.builder.ast;
+
+/**
+ * The only entry point to the JFR events of Queryman, such as
+ * {@code QueryRenderedEvent}. The events require the {@code jdk.jfr} module
+ * of OpenJDK 11+, so they are compiled by a source set of their own and
+ * loaded by name through {@link QueryEventSink}. The core is compiled and
+ * runs without the module. If the module or the event classes are absent,
+ * the methods of this class do nothing.
+ *
+ * An event is passed around as {@link Object}, so the callers do not refer
+ * to the event classes. If an event is not enabled in a recording, it is
+ * {@code null}.
+ *
+ * @author Timur Shaidullin
+ */
+public final class QueryEvents {
+    /**
+     * Sink of events or {@code null} if the events are not available.
+     */
+    private static final QueryEventSink SINK = sink();
+
+    /**
+     * {@code true} if the events are available.
+     */
+    static final boolean AVAILABLE = SINK != null;
+
+    private QueryEvents() {
+    }
+
+    /**
+     * Begins an event of assembling a query.
+     *
+     * @return event or {@code null}
+     */
+    public static Object assembling() {
+        return SINK == null ? null : SINK.assembling();
+    }
+
+    /**
+     * Ends and commits an event of {@link #assembling()}.
+     *
+     * @param event event or {@code null}
+     * @param tree assembled tree
+     */
+    public static void assembled(Object event, AbstractSyntaxTree tree) {
+        if (event != null)
+            SINK.assembled(event, tree);
+    }
+
+    /**
+     * Begins an event of rendering a tree.
+     *
+     * @return event or {@code null}
+     */
+    static Object rendering() {
+        return SINK == null ? null : SINK.rendering();
+    }
+
+    /**
+     * Ends and commits an event of {@link #rendering()}.
+     *
+     * @param event event or {@code null}
+     * @param root root node of the tree
+     * @param prepared placeholders are rendered instead of values
+     * @param cacheHit SQL is taken from {@link SqlCache}
+     * @param nodeCount number of nodes
+     * @param sqlLength length of SQL
+     * @param parameterCount number of bound parameters
+     */
+    static void rendered(Object event,
+                         Node root,
+                         boolean prepared,
+                         boolean cacheHit,
+                         int nodeCount,
+                         long sqlLength,
+                         int parameterCount) {
+        if (event != null)
+            SINK.rendered(event, root, prepared, cacheHit, nodeCount, sqlLength, parameterCount);
+    }
+
+    /**
+     * Begins an event of binding parameters.
+     *
+     * @return event or {@code null}
+     */
+    static Object binding() {
+        return SINK == null ? null : SINK.binding();
+    }
+
+    /**
+     * Ends and commits an event of {@link #binding()}.
+     *
+     * @param event event or {@code null}
+     * @param parameterCount number of bound parameters
+     */
+    static void bound(Object event, int parameterCount) {
+        if (event != null)
+            SINK.bound(event, parameterCount);
+    }
+
+    /**
+     * @return keyword of the first named node, e.g. {@code SELECT}
+     */
+    static String command(Node root) {
+        Node node = root;
+        while (node.getNodeMetadata().getToken().getName().isEmpty() && !node.getNodes().isEmpty())
+            node = node.getNodes().get(0);
+
+        return node.getNodeMetadata().getToken().getName();
+    }
+
+    private static QueryEventSink sink() {
+        try {
+            Class.forName("jdk.jfr.Event", false, QueryEvents.class.getClassLoader());
+
+            return (QueryEventSink) Class.forName("org.queryman.builder.ast.JfrQueryEventSink")
+               .getDeclaredConstructor()
+               .newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,233 @@
+/*
+ *  Queryman. Java tools for working with queries of PostgreSQL database.
+ *
+ *  License: MIT License
+ *  To see license follow by http://queryman.org/license.txt
+ */
+package org.queryman.builder.ast;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Registry of metrics of the built statements, those are grouped by
+ * a {@link QueryShape}. For every shape it records the time of assembling,
+ * rendering and binding, the length of SQL and the number of parameters.
+ *
+ * It is enabled by {@link org.queryman.builder.cfg.Settings#METRICS}. When it
+ * is disabled, {@link #start()} returns {@code null} and nothing is measured.
+ * An enabled registry is exposed over JMX as {@value #OBJECT_NAME}.
+ *
+ * @author Timur Shaidullin
+ */
+public final class QueryMetrics implements QueryMetricsMXBean {
+    private final static Logger LOG = LogManager.getLogger("org.queryman.builder.ast");
+
+    public static final String OBJECT_NAME = "org.queryman.builder:type=QueryMetrics";
+
+    /**
+     * Maximum number of measured shapes.
+     */
+    public static final int MAX_SHAPES = 256;
+
+    /**
+     * Maximum length of SQL, those identifies a shape in a snapshot.
+     */
+    private static final int MAX_SQL_LENGTH = 1024;
+
+    /**
+     * If {@code true}, an instance is registered in the MBean server.
+     */
+    private static boolean exposed;
+
+    private final boolean                                 enabled;
+    private final ConcurrentMap<QueryShape, ShapeMetrics> shapes  = new ConcurrentHashMap<>();
+    private final LongAdder                               dropped = new LongAdder();
+
+    /**
+     * @param enabled if {@code false}, nothing is measured
+     */
+    public QueryMetrics(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Starts a measurement of a statement.
+     *
+     * @return sample or {@code null} if the registry is disabled
+     */
+    public Sample start() {
+        return enabled ? new Sample(this) : null;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public int getShapeCount() {
+        return shapes.size();
+    }
+
+    @Override
+    public long getDropped() {
+        return dropped.sum();
+    }
+
+    @Override
+    public List<ShapeSnapshot> getShapes() {
+        List<ShapeSnapshot> snapshots = new ArrayList<>(shapes.size());
+
+        for (ShapeMetrics metrics : shapes.values())
+            snapshots.add(metrics.snapshot());
+
+        return snapshots;
+    }
+
+    @Override
+    public void reset() {
+        shapes.clear();
+        dropped.reset();
+    }
+
+    /**
+     * Registers the {@code metrics} in the platform MBean server, it
+     * replaces the previously registered one. A disabled registry is not
+     * registered, but it still unregisters the previous one. The MBean
+     * server is not touched, until an enabled registry is exposed.
+     *
+     * @param metrics registry
+     */
+    public static synchronized void expose(QueryMetrics metrics) {
+        if (!metrics.isEnabled() && !exposed)
+            return;
+
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName  name   = new ObjectName(OBJECT_NAME);
+
+            if (server.isRegistered(name))
+                server.unregisterMBean(name);
+
+            exposed = metrics.isEnabled();
+            if (exposed)
+                server.registerMBean(metrics, name);
+        } catch (JMException e) {
+            LOG.error(e.getMessage());
+        }
+    }
+
+    private void record(Node root, Sample sample, String sql, Parameters params) {
+        Parameters   counted = params == null ? new Parameters() : null;
+        QueryShape   shape   = QueryShape.probe(root, counted);
+        ShapeMetrics metrics;
+
+        try {
+            metrics = shapes.get(shape);
+            if (metrics == null) {
+                if (shapes.size() >= MAX_SHAPES) {
+                    dropped.increment();
+                    return;
+                }
+
+                metrics = shapes.computeIfAbsent(shape.copy(), s -> new ShapeMetrics(label(root)));
+            }
+        } finally {
+            shape.release();
+        }
+
+        metrics.count.increment();
+        metrics.assembly.record(sample.assembled - sample.started);
+        metrics.render.record(sample.rendered - sample.assembled);
+        if (sample.bound != 0)
+            metrics.bind.record(sample.bound - sample.rendered);
+        metrics.sqlLength.record(sql.length());
+        metrics.parameters.record(params == null ? counted.size() : params.size());
+    }
+
+    /**
+     * @return prepared SQL of the tree, it is cut to {@link #MAX_SQL_LENGTH}
+     */
+    private static String label(Node root) {
+        String sql = new TreeFormatter().buildSQL(root, true);
+
+        return sql.length() <= MAX_SQL_LENGTH ? sql : sql.substring(0, MAX_SQL_LENGTH) + "...";
+    }
+
+    /**
+     * Times of the stages of a single statement. The stages are marked
+     * by {@link TreeFormatterUtil}.
+     */
+    public static final class Sample {
+        private final QueryMetrics metrics;
+        private final long         started;
+        private       long         assembled;
+        private       long         rendered;
+        private       long         bound;
+
+        private Sample(QueryMetrics metrics) {
+            this.metrics = metrics;
+            this.started = System.nanoTime();
+        }
+
+        void assembled() {
+            assembled = System.nanoTime();
+        }
+
+        void rendered() {
+            rendered = System.nanoTime();
+        }
+
+        void bound() {
+            bound = System.nanoTime();
+        }
+
+        /**
+         * Records the sample.
+         *
+         * @param root root node of the tree
+         * @param sql built SQL
+         * @param params parameters of a prepared statement or {@code null}
+         */
+        void finish(Node root, String sql, Parameters params) {
+            metrics.record(root, this, sql, params);
+        }
+    }
+
+    private static final class ShapeMetrics {
+        private final String    sql;
+        private final LongAdder count      = new LongAdder();
+        private final Histogram assembly   = new Histogram();
+        private final Histogram render     = new Histogram();
+        private final Histogram bind       = new Histogram();
+        private final Histogram sqlLength  = new Histogram();
+        private final Histogram parameters = new Histogram();
+
+        ShapeMetrics(String sql) {
+            this.sql = sql;
+        }
+
+        ShapeSnapshot snapshot() {
+            return new ShapeSnapshot(
+               sql,
+               count.sum(),
+               assembly.snapshot(),
+               render.snapshot(),
+               bind.snapshot(),
+               sqlLength.snapshot(),
+               parameters.snapshot()
+            );
+        }
+    }
+}
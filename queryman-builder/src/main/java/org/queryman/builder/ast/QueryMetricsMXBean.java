@@ -0,0 +1,43 @@
+/*
+ *  Queryman. Java tools for working with queries of PostgreSQL database.
+ *
+ *  License: MIT License
+ *  To see license follow by http://queryman.org/license.txt
+ */
+package org.queryman.builder.ast;
+
+import java.util.List;
+
+/**
+ * Management interface of {@link QueryMetrics}. It is registered as
+ * {@value QueryMetrics#OBJECT_NAME}.
+ *
+ * @author Timur Shaidullin
+ */
+public interface QueryMetricsMXBean {
+    /**
+     * @return {@code true} if the statements are measured
+     */
+    boolean isEnabled();
+
+    /**
+     * @return number of measured shapes
+     */
+    int getShapeCount();
+
+    /**
+     * @return number of statements, those were not measured because
+     * the number of shapes reached the limit
+     */
+    long getDropped();
+
+    /**
+     * @return metrics of every measured shape
+     */
+    List<ShapeSnapshot> getShapes();
+
+    /**
+     * Removes all metrics.
+     */
+    void reset();
+}
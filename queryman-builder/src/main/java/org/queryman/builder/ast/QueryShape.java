@@ -0,0 +1,199 @@
+/*
+ *  Queryman. Java tools for working with queries of PostgreSQL database.
+ *
+ *  License: MIT License
+ *  To see license follow by http://queryman.org/license.txt
+ */
+package org.queryman.builder.ast;
+
+import org.queryman.builder.token.PreparedExpression;
+import org.queryman.builder.token.Token;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Structural fingerprint of a tree. It consists of everything
+ * {@link TreeFormatter} uses to render a prepared SQL: the metadata and
+ * the delimiter of each node, the names of the leaves and the placeholders
+ * of the prepared expressions. The values of the prepared expressions are
+ * ignored, so two trees having an equal shape produce an equal prepared SQL.
+ *
+ * The shape is cheaper than rendering: the strings are not concatenated,
+ * the names and the placeholders are taken as they are cached by the tokens,
+ * and the numbers of each node are kept unboxed. The hash is computed along
+ * the walk.
+ *
+ * A shape, those is only looked up, is taken by {@link #probe(Node, Parameters)}
+ * from a per-thread pool and returned by {@link #release()}, so a hit of
+ * a cache allocates nothing for the shape itself.
+ *
+ * @author Timur Shaidullin
+ */
+final class QueryShape {
+    private static final int CAPACITY     = 64;
+    private static final int MAX_CAPACITY = 4096;
+
+    private static final ThreadLocal<QueryShape> POOL = new ThreadLocal<>();
+
+    private Deque<Node> stack;
+    private Object[]    names;
+    private int[]       numbers;
+    private int         namesSize;
+    private int         numbersSize;
+    private int         hash;
+
+    private QueryShape(Object[] names, int[] numbers) {
+        this.names = names;
+        this.numbers = numbers;
+    }
+
+    /**
+     * Walks the tree in the order of {@link TreeFormatter} and binds
+     * the prepared expressions to {@code parameters} along the way.
+     *
+     * @param node root node
+     * @param parameters prepared parameters or {@code null}, if nothing must
+     *                   be bound
+     * @return shape of the tree
+     */
+    static QueryShape of(Node node, Parameters parameters) {
+        return new QueryShape(new Object[CAPACITY], new int[CAPACITY]).walk(node, parameters);
+    }
+
+    /**
+     * The same as {@link #of(Node, Parameters)}, but the shape is taken from
+     * the pool of current thread. It must be released after the lookup and
+     * must not be kept, see {@link #copy()}.
+     *
+     * @param node root node
+     * @param parameters prepared parameters
+     * @return shape of the tree
+     */
+    static QueryShape probe(Node node, Parameters parameters) {
+        QueryShape shape = POOL.get();
+
+        // a sub query is probed, while its query is being probed
+        if (shape == null)
+            return of(node, parameters);
+
+        POOL.set(null);
+        return shape.walk(node, parameters);
+    }
+
+    /**
+     * Returns the shape taken by {@link #probe(Node, Parameters)} to the pool.
+     * A shape of a huge tree is dropped, so the pool does not hold much memory.
+     */
+    void release() {
+        if (names.length <= MAX_CAPACITY && numbers.length <= MAX_CAPACITY)
+            POOL.set(this);
+    }
+
+    /**
+     * @return copy of the shape without unused capacity, it may be kept
+     * by a cache
+     */
+    QueryShape copy() {
+        QueryShape shape = new QueryShape(
+           Arrays.copyOf(names, namesSize),
+           Arrays.copyOf(numbers, numbersSize)
+        );
+
+        shape.namesSize = namesSize;
+        shape.numbersSize = numbersSize;
+        shape.hash = hash;
+
+        return shape;
+    }
+
+    private QueryShape walk(Node node, Parameters parameters) {
+        Parameters params = parameters != null ? parameters : new Parameters();
+
+        Arrays.fill(names, 0, namesSize, null);
+        namesSize = 0;
+        numbersSize = 0;
+        hash = 1;
+
+        if (stack == null)
+            stack = new ArrayDeque<>();
+
+        stack.push(node);
+        while (!stack.isEmpty())
+            collect(stack.pop(), params);
+
+        return this;
+    }
+
+    /**
+     * Collects components of the {@code node} and pushes its child nodes
+     * to the {@code stack} in reverse order.
+     */
+    private void collect(Node node, Parameters parameters) {
+        NodeMetadata metadata = node.getNodeMetadata();
+        List<Token>  leaves   = node.getLeaves();
+        List<Node>   nodes    = node.getNodes();
+
+        addName(metadata.getToken().getName());
+        addName(node.getDelimiter());
+        addNumber(metadata.getPosition());
+        addNumber(leaves.size() << 2 | (metadata.isParentheses() ? 1 : 0) | (metadata.isJoinNodes() ? 2 : 0));
+        addNumber(nodes.size());
+
+        for (int i = 0; i < leaves.size(); i++) {
+            Token leaf = leaves.get(i);
+
+            if (leaf instanceof PreparedExpression)
+                addName(((PreparedExpression) leaf).bindPlaceholder(parameters));
+            else
+                addName(leaf.getName());
+        }
+
+        for (int i = nodes.size() - 1; i >= 0; i--)
+            stack.push(nodes.get(i));
+    }
+
+    private void addName(String name) {
+        if (namesSize == names.length)
+            names = Arrays.copyOf(names, namesSize << 1);
+
+        names[namesSize++] = name;
+        hash = 31 * hash + (name == null ? 0 : name.hashCode());
+    }
+
+    private void addNumber(int number) {
+        if (numbersSize == numbers.length)
+            numbers = Arrays.copyOf(numbers, numbersSize << 1);
+
+        numbers[numbersSize++] = number;
+        hash = 31 * hash + number;
+    }
+
+    /**
+     * @return number of nodes of the tree
+     */
+    int nodeCount() {
+        return numbersSize / 3;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+
+        if (!(o instanceof QueryShape))
+            return false;
+
+        QueryShape shape = (QueryShape) o;
+        return hash == shape.hash
+           && Arrays.equals(numbers, 0, numbersSize, shape.numbers, 0, shape.numbersSize)
+           && Arrays.equals(names, 0, namesSize, shape.names, 0, shape.namesSize);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+}
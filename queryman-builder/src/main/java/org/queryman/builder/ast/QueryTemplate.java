@@ -0,0 +1,226 @@
+/*
+ *  Queryman. Java tools for working with queries of PostgreSQL database.
+ *
+ *  License: MIT License
+ *  To see license follow by http://queryman.org/license.txt
+ */
+package org.queryman.builder.ast;
+
+import org.queryman.builder.Queryman;
+import org.queryman.builder.token.Expression;
+import org.queryman.builder.token.PreparedExpression;
+import org.queryman.builder.token.expression.prepared.ParamExpression;
+import org.queryman.builder.token.expression.prepared.StagedListExpression;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Precompiled query. It holds the prepared SQL string and a slot table,
+ * where each slot is either a named parameter, created by
+ * {@link Queryman#param(String)}, or a constant captured at compile time.
+ *
+ * A template is immutable and can be shared between threads. Binding it
+ * only creates a prepared statement and sets the parameters, the query
+ * is neither assembled nor rendered again. The staged lists are loaded
+ * again on each execution of a statement.
+ *
+ * <code>
+ * QueryTemplate template = select("id", "name")
+ *    .from("book")
+ *    .where("id", "=", param("id"))
+ *    .compile();
+ *
+ * template.bind(conn, Map.of("id", 1));
+ * </code>
+ *
+ * @author Timur Shaidullin
+ */
+public final class QueryTemplate {
+
+    private final String               sql;
+    private final PreparedExpression[] constants;
+    private final int[]                slots;
+    private final List<String>         names;
+
+    private final List<StagedListExpression> staged;
+
+    /**
+     * @param sql prepared SQL string
+     * @param parameters prepared expressions by placeholder index
+     */
+    QueryTemplate(String sql, Parameters parameters) {
+        this.sql = sql;
+
+        int size = parameters.size();
+        constants = new PreparedExpression[size];
+        slots = new int[size];
+
+        List<String> names = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            PreparedExpression expression = parameters.get(i + 1);
+
+            if (expression instanceof ParamExpression) {
+                String name = ((ParamExpression) expression).getParamName();
+                if (!names.contains(name))
+                    names.add(name);
+
+                slots[i] = names.indexOf(name);
+            } else {
+                constants[i] = expression;
+                slots[i] = -1;
+            }
+        }
+
+        this.names = Collections.unmodifiableList(names);
+        this.staged = List.copyOf(parameters.getStaged());
+    }
+
+    /**
+     * @return prepared SQL string
+     */
+    public String getSql() {
+        return sql;
+    }
+
+    /**
+     * @return names of the parameters in order of their first occurrence
+     */
+    public List<String> getParameterNames() {
+        return names;
+    }
+
+    /**
+     * Creates a prepared statement and binds the values to the named slots.
+     *
+     * @param conn connection is used in creation a prepared statement
+     * @param values values by the names of the parameters
+     * @return prepared statement
+     *
+     * @throws SQLException may be thrown during creation a prepared statement
+     * @throws IllegalArgumentException if a value of any parameter is missed
+     */
+    public PreparedStatement bind(Connection conn, Map<String, ?> values) throws SQLException {
+        return doBind(conn, toArray(values));
+    }
+
+    /**
+     * Creates a prepared statement and binds the values to the named slots.
+     * The values follow the order of {@link #getParameterNames()}.
+     *
+     * @param conn connection is used in creation a prepared statement
+     * @param values values of the parameters
+     * @return prepared statement
+     *
+     * @throws SQLException may be thrown during creation a prepared statement
+     * @throws IllegalArgumentException if number of values is distinct from
+     * number of the parameters
+     */
+    public PreparedStatement bind(Connection conn, Object... values) throws SQLException {
+        return doBind(conn, checkLength(values));
+    }
+
+    /**
+     * Creates a batch, that executes this template many times by a single
+     * prepared statement.
+     *
+     * @param conn connection is used in creation a prepared statement
+     * @return batch
+     *
+     * @throws SQLException may be thrown during creation a prepared statement
+     */
+    public QueryBatch batch(Connection conn) throws SQLException {
+        SqlLogger logger = Queryman.getSqlLogger();
+        long      start  = logger.start();
+
+        logger.log(sql, null);
+
+        QueryBatch batch = new QueryBatch(this, conn, KeyStaging.wrap(conn, conn.prepareStatement(sql), staged));
+
+        logger.logSlow(sql, null, start);
+
+        return batch;
+    }
+
+    private PreparedStatement doBind(Connection conn, Object[] values) throws SQLException {
+        SqlLogger logger = Queryman.getSqlLogger();
+        long      start  = logger.start();
+
+        logger.log(sql, null);
+
+        PreparedStatement statement = conn.prepareStatement(sql);
+        try {
+            setParameters(conn, statement, values);
+            logger.logSlow(sql, null, start);
+            return KeyStaging.wrap(conn, statement, staged);
+        } catch (SQLException | RuntimeException e) {
+            statement.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Sets the constants and the {@code values} of the named slots to
+     * the {@code statement}.
+     */
+    void setParameters(Connection conn, PreparedStatement statement, Object[] values) throws SQLException {
+        Parameters params = new Parameters(slots.length);
+
+        for (int i = 0; i < slots.length; i++) {
+            if (slots[i] < 0) {
+                params.add(constants[i]);
+                continue;
+            }
+
+            Object value = values[slots[i]];
+            params.add(value == null ? null : toPreparedExpression(names.get(slots[i]), value));
+        }
+
+        new JavaTypeToJdbc(conn, statement).bind(params);
+    }
+
+    /**
+     * @return values ordered by {@link #getParameterNames()}
+     *
+     * @throws IllegalArgumentException if a value of any parameter is missed
+     */
+    Object[] toArray(Map<String, ?> values) {
+        Object[] array = new Object[names.size()];
+
+        for (int i = 0; i < array.length; i++) {
+            if (!values.containsKey(names.get(i)))
+                throw new IllegalArgumentException("Parameter :" + names.get(i) + " is not bound");
+
+            array[i] = values.get(names.get(i));
+        }
+
+        return array;
+    }
+
+    /**
+     * @throws IllegalArgumentException if number of values is distinct from
+     * number of the parameters
+     */
+    Object[] checkLength(Object[] values) {
+        if (values.length != names.size())
+            throw new IllegalArgumentException(
+               String.format("Template expects %d parameters, but %d is given", names.size(), values.length)
+            );
+
+        return values;
+    }
+
+    private static PreparedExpression toPreparedExpression(String name, Object value) {
+        Expression expression = Queryman.asConstant(value);
+
+        if (expression instanceof PreparedExpression && !(expression instanceof ParamExpression))
+            return (PreparedExpression) expression;
+
+        throw new IllegalArgumentException("Value of parameter :" + name + " is not a constant: " + value);
+    }
+}
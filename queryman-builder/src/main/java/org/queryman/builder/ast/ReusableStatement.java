@@ -0,0 +1,90 @@
+/*
+ *  Queryman. Java tools for working with queries of PostgreSQL database.
+ *
+ *  License: MIT License
+ *  To see license follow by http://queryman.org/license.txt
+ */
+package org.queryman.builder.ast;
+
+import org.queryman.builder.Queryman;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+/**
+ * Prepares statements for a sequence of trees, those often have an equal
+ * shape, e.g. chunks of a multi-row insert. The SQL of a tree is taken from
+ * a small {@link SqlCache}, and if it is equal to the SQL of the previous
+ * tree, the previous prepared statement is reused, only its parameters
+ * are bound again.
+ *
+ * It is not thread-safe, as well as a prepared statement.
+ *
+ * @author Timur Shaidullin
+ */
+public final class ReusableStatement implements AutoCloseable {
+    private final Connection        connection;
+    private final SqlCache          cache = new SqlCache(4);
+    private       String            sql;
+    private       PreparedStatement statement;
+
+    /**
+     * @param connection connection is used in creation a prepared statement
+     */
+    public ReusableStatement(Connection connection) {
+        this.connection = connection;
+    }
+
+    /**
+     * Returns a prepared statement with bound parameters of the {@code tree}.
+     * The statement returned by the previous call is either reused or closed.
+     *
+     * @param tree abstract syntax tree
+     * @return prepared statement
+     *
+     * @throws SQLException may be thrown during creation a prepared statement
+     */
+    public PreparedStatement prepare(AbstractSyntaxTree tree) throws SQLException {
+        SqlLogger  logger = Queryman.getSqlLogger();
+        long       start  = logger.start();
+        Parameters params = new Parameters();
+        String     next   = TreeFormatterUtil.buildPreparedSQL(tree.getRootNode(), params, cache);
+
+        logger.log(next, params);
+
+        if (statement != null && next.equals(sql)) {
+            statement.clearParameters();
+        } else {
+            close();
+            statement = connection.prepareStatement(next);
+            sql = next;
+        }
+
+        new JavaTypeToJdbc(connection, statement).bind(params);
+
+        logger.logSlow(next, params, start);
+
+        return KeyStaging.wrap(connection, statement, params.getStaged());
+    }
+
+    /**
+     * @return number of statements, those SQL is taken from the cache
+     */
+    public long getReused() {
+        return cache.getHits();
+    }
+
+    /**
+     * Closes the last prepared statement.
+     */
+    @Override
+    public void close() throws SQLException {
+        if (statement != null) {
+            PreparedStatement current = statement;
+            statement = null;
+            sql = null;
+            current.close();
+        }
+    }
+}
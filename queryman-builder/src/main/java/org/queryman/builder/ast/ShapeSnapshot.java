@@ -0,0 +1,91 @@
+/*
+ *  Queryman. Java tools for working with queries of PostgreSQL database.
+ *
+ *  License: MIT License
+ *  To see license follow by http://queryman.org/license.txt
+ */
+package org.queryman.builder.ast;
+
+/**
+ * Metrics of the statements of a single shape. A shape is identified by
+ * its prepared SQL. The times are in nanoseconds.
+ *
+ * @see QueryMetrics
+ *
+ * @author Timur Shaidullin
+ */
+public final class ShapeSnapshot {
+    private final String            sql;
+    private final long              count;
+    private final HistogramSnapshot assembly;
+    private final HistogramSnapshot render;
+    private final HistogramSnapshot bind;
+    private final HistogramSnapshot sqlLength;
+    private final HistogramSnapshot parameters;
+
+    ShapeSnapshot(String sql,
+                  long count,
+                  HistogramSnapshot assembly,
+                  HistogramSnapshot render,
+                  HistogramSnapshot bind,
+                  HistogramSnapshot sqlLength,
+                  HistogramSnapshot parameters) {
+        this.sql = sql;
+        this.count = count;
+        this.assembly = assembly;
+        this.render = render;
+        this.bind = bind;
+        this.sqlLength = sqlLength;
+        this.parameters = parameters;
+    }
+
+    /**
+     * @return prepared SQL of the shape
+     */
+    public String getSql() {
+        return sql;
+    }
+
+    /**
+     * @return number of built statements
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * @return time of assembling a tree
+     */
+    public HistogramSnapshot getAssembly() {
+        return assembly;
+    }
+
+    /**
+     * @return time of rendering a SQL string
+     */
+    public HistogramSnapshot getRender() {
+        return render;
+    }
+
+    /**
+     * @return time of preparing a statement and binding its parameters,
+     * only prepared statements are counted
+     */
+    public HistogramSnapshot getBind() {
+        return bind;
+    }
+
+    /**
+     * @return length of a SQL string
+     */
+    public HistogramSnapshot getSqlLength() {
+        return sqlLength;
+    }
+
+    /**
+     * @return number of parameters
+     */
+    public HistogramSnapshot getParameters() {
+        return parameters;
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ *  Queryman. Java tools for working with queries of PostgreSQL database.
+ *
+ *  License: MIT License
+ *  To see license follow by http://queryman.org/license.txt
+ */
+package org.queryman.builder.ast;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded cache of prepared SQL strings keyed by {@link QueryShape}. When
+ * a query of a known shape is built again, only its parameters are bound,
+ * the SQL is taken from the cache.
+ *
+ * When the cache is full, the least recently used entry is evicted to make
+ * room for a new one. The entries are kept by an access ordered
+ * {@link LinkedHashMap}, those is guarded by the cache. The capacity is
+ * set by
+ * {@link org.queryman.builder.cfg.Settings#SQL_CACHE_SIZE}, {@code 0}
+ * disables the cache.
+ *
+ * @author Timur Shaidullin
+ */
+public final class SqlCache {
+    private final int                     capacity;
+    private final Map<QueryShape, String> cache;
+    private final LongAdder               hits   = new LongAdder();
+    private final LongAdder               misses = new LongAdder();
+
+    /**
+     * @param capacity maximum number of cached SQL strings
+     */
+    public SqlCache(int capacity) {
+        if (capacity < 0)
+            throw new IllegalArgumentException("Capacity of SQL cache must not be negative: " + capacity);
+
+        this.capacity = capacity;
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<QueryShape, String> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * @return {@code true} if the capacity is greater than {@code 0}
+     */
+    public boolean isEnabled() {
+        return capacity > 0;
+    }
+
+    String get(QueryShape shape) {
+        String sql;
+        synchronized (cache) {
+            sql = cache.get(shape);
+        }
+
+        if (sql == null)
+            misses.increment();
+        else
+            hits.increment();
+
+        return sql;
+    }
+
+    /**
+     * @param shape shape, those is kept by the cache, so it must not be
+     *              a probe, see {@link QueryShape#copy()}
+     * @param sql prepared SQL
+     */
+    void put(QueryShape shape, String sql) {
+        synchronized (cache) {
+            cache.put(shape, sql);
+        }
+    }
+
+    /**
+     * @return capacity of the cache
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * @return number of cached SQL strings
+     */
+    public int size() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    /**
+     * @return number of queries those SQL is found in the cache
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * @return number of queries those SQL is rendered
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * Removes all cached SQL strings and resets the counters.
+     */
+    public void clear() {
+        synchronized (cache) {
+            cache.clear();
+        }
+
+        hits.reset();
+        misses.reset();
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ *  Queryman. Java tools for working with queries of PostgreSQL database.
+ *
+ *  License: MIT License
+ *  To see license follow by http://queryman.org/license.txt
+ */
+package org.queryman.builder.ast;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.queryman.builder.token.PreparedExpression;
+import org.queryman.builder.token.expression.prepared.ArrayExpression;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Logs the built SQL strings at INFO level and their parameters at DEBUG
+ * level. Which statements are logged is decided by a {@link Mode}, those
+ * is set by {@link org.queryman.builder.cfg.Settings#SQL_LOGGING}.
+ *
+ * Nothing is built, unless the statement is going to be logged and
+ * the level of the logger is enabled.
+ *
+ * @author Timur Shaidullin
+ */
+public final class SqlLogger {
+    private final static Logger LOG = LogManager.getLogger("org.queryman.builder.ast");
+
+    /**
+     * Start time of a statement, those is not timed.
+     */
+    static final long NOT_TIMED = Long.MIN_VALUE;
+
+    public enum Mode {
+        /**
+         * Nothing is logged.
+         */
+        OFF,
+
+        /**
+         * One of {@code sample rate} statements is logged.
+         */
+        SAMPLED,
+
+        /**
+         * A statement is logged, if its building took at least
+         * the {@code slow threshold}.
+         */
+        SLOW,
+
+        /**
+         * Every statement is logged.
+         */
+        FULL;
+
+        /**
+         * @param name name of mode in any case, e.g. {@code sampled}
+         * @return mode
+         *
+         * @throws IllegalArgumentException if there is no such mode
+         */
+        public static Mode of(String name) {
+            return valueOf(name.trim().toUpperCase(Locale.ROOT));
+        }
+    }
+
+    private final Mode       mode;
+    private final int        sampleRate;
+    private final long       slowThreshold;
+    private final AtomicLong counter = new AtomicLong();
+
+    /**
+     * @param mode mode of logging
+     * @param sampleRate one of {@code sampleRate} statements is logged in
+     *                   {@link Mode#SAMPLED} mode
+     * @param slowThreshold minimum time of building in milliseconds of
+     *                      a statement, those is logged in {@link Mode#SLOW}
+     *                      mode
+     */
+    public SqlLogger(Mode mode, int sampleRate, long slowThreshold) {
+        if (sampleRate < 1)
+            throw new IllegalArgumentException("Sample rate of SQL logging must be positive: " + sampleRate);
+        if (slowThreshold < 0)
+            throw new IllegalArgumentException("Slow threshold of SQL logging must not be negative: " + slowThreshold);
+
+        this.mode = mode;
+        this.sampleRate = sampleRate;
+        this.slowThreshold = TimeUnit.MILLISECONDS.toNanos(slowThreshold);
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    /**
+     * @return current time in nanoseconds, if a statement is logged when
+     * it is slow, otherwise {@link #NOT_TIMED}
+     */
+    long start() {
+        return mode == Mode.SLOW && LOG.isInfoEnabled() ? System.nanoTime() : NOT_TIMED;
+    }
+
+    /**
+     * Logs a statement before it is executed in {@link Mode#FULL} and
+     * {@link Mode#SAMPLED} modes.
+     *
+     * @param sql SQL string
+     * @param params parameters or {@code null}
+     * @return {@code true} if the statement is logged
+     */
+    boolean log(String sql, Parameters params) {
+        if (mode == Mode.OFF || mode == Mode.SLOW || !LOG.isInfoEnabled())
+            return false;
+
+        if (mode == Mode.SAMPLED && counter.incrementAndGet() % sampleRate != 0)
+            return false;
+
+        LOG.info(sql);
+        logParameters(params);
+
+        return true;
+    }
+
+    /**
+     * Logs a statement in {@link Mode#SLOW} mode, if it took at least
+     * the slow threshold since the {@code start}.
+     *
+     * @param sql SQL string
+     * @param params parameters or {@code null}
+     * @param start value of {@link #start()}
+     * @return {@code true} if the statement is logged
+     */
+    boolean logSlow(String sql, Parameters params, long start) {
+        if (start == NOT_TIMED)
+            return false;
+
+        long elapsed = System.nanoTime() - start;
+        if (elapsed < slowThreshold)
+            return false;
+
+        LOG.info("Slow SQL, built in {} ms: {}", TimeUnit.NANOSECONDS.toMillis(elapsed), sql);
+        logParameters(params);
+
+        return true;
+    }
+
+    private static void logParameters(Parameters params) {
+        if (params == null || params.isEmpty() || !LOG.isDebugEnabled())
+            return;
+
+        StringBuilder builder = new StringBuilder("Parameters\n{");
+
+        for (int key = 1; key <= params.size(); key++) {
+            PreparedExpression param = params.get(key);
+            builder.append("\n\t").append(key).append(" -> ");
+
+            if (param == null)
+                builder.append("NULL");
+            else if (param instanceof ArrayExpression)
+                builder.append(param);
+            else
+                builder.append(param.getValue());
+        }
+
+        builder.append("\n}");
+
+        LOG.debug(builder.toString());
+    }
+}
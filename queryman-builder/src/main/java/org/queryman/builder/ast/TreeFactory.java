@@ -7,6 +7,7 @@
 package org.queryman.builder.ast;
 
 import org.queryman.builder.boot.Metadata;
+import org.queryman.builder.cfg.Settings;
 
 /**
  * Encapsulates an initialization of {@link AbstractSyntaxTreeImpl}. By default
@@ -15,10 +16,107 @@ import org.queryman.builder.boot.Metadata;
  * @author Timur Shaidullin
  */
 public class TreeFactory {
-    private Metadata metadata;
+    private Metadata     metadata;
+    private SqlCache     sqlCache = new SqlCache(0);
+    private int          inListArrayThreshold = intSetting(null, Settings.IN_LIST_ARRAY_THRESHOLD);
+    private boolean      inListPadding = booleanSetting(null, Settings.IN_LIST_PADDING);
+    private int          inListTempTableThreshold = intSetting(null, Settings.IN_LIST_TEMP_TABLE_THRESHOLD);
+    private SqlLogger    sqlLogger = sqlLogger(null);
+    private QueryMetrics queryMetrics = new QueryMetrics(false);
 
     public void setMetadata(Metadata metadata) {
         this.metadata = metadata;
+
+        sqlCache = new SqlCache(intSetting(metadata, Settings.SQL_CACHE_SIZE));
+        inListArrayThreshold = intSetting(metadata, Settings.IN_LIST_ARRAY_THRESHOLD);
+        inListPadding = booleanSetting(metadata, Settings.IN_LIST_PADDING);
+        inListTempTableThreshold = intSetting(metadata, Settings.IN_LIST_TEMP_TABLE_THRESHOLD);
+        sqlLogger = sqlLogger(metadata);
+
+        queryMetrics = new QueryMetrics(booleanSetting(metadata, Settings.METRICS));
+        QueryMetrics.expose(queryMetrics);
+    }
+
+    private static SqlLogger sqlLogger(Metadata metadata) {
+        return new SqlLogger(
+           SqlLogger.Mode.of(setting(metadata, Settings.SQL_LOGGING)),
+           intSetting(metadata, Settings.SQL_LOGGING_SAMPLE_RATE),
+           intSetting(metadata, Settings.SQL_LOGGING_SLOW_THRESHOLD)
+        );
+    }
+
+    /**
+     * @return value of the {@code key} or its default value
+     */
+    private static int intSetting(Metadata metadata, String key) {
+        return Integer.parseInt(setting(metadata, key));
+    }
+
+    /**
+     * @return value of the {@code key} or its default value
+     */
+    private static boolean booleanSetting(Metadata metadata, String key) {
+        return Boolean.parseBoolean(setting(metadata, key));
+    }
+
+    private static String setting(Metadata metadata, String key) {
+        String value = metadata == null ? null : metadata.getProperty(key);
+        if (value == null)
+            value = Settings.DEFAULTS.get(key);
+
+        return value.trim();
+    }
+
+    /**
+     * @return cache of prepared SQL strings
+     */
+    public SqlCache getSqlCache() {
+        return sqlCache;
+    }
+
+    /**
+     * @return maximum size of IN list, those is not rewritten to an array
+     *
+     * @see Settings#IN_LIST_ARRAY_THRESHOLD
+     */
+    public int getInListArrayThreshold() {
+        return inListArrayThreshold;
+    }
+
+    /**
+     * @return true if the IN lists are padded up to the next power of two
+     *
+     * @see Settings#IN_LIST_PADDING
+     */
+    public boolean isInListPadding() {
+        return inListPadding;
+    }
+
+    /**
+     * @return maximum size of IN list, those is not staged into a temporary table
+     *
+     * @see Settings#IN_LIST_TEMP_TABLE_THRESHOLD
+     */
+    public int getInListTempTableThreshold() {
+        return inListTempTableThreshold;
+    }
+
+    /**
+     * @return logger of the built SQL strings
+     *
+     * @see Settings#SQL_LOGGING
+     */
+    public SqlLogger getSqlLogger() {
+        return sqlLogger;
+    }
+
+    /**
+     * @return metrics of the built statements
+     *
+     * @see Settings#METRICS
+     */
+    public QueryMetrics getQueryMetrics() {
+        return queryMetrics;
     }
 
     public AbstractSyntaxTree getTree() {
@@ -9,18 +9,49 @@ package org.queryman.builder.ast;
 import org.queryman.builder.token.PreparedExpression;
 import org.queryman.builder.token.Token;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
-import java.util.Hashtable;
+import java.util.Deque;
+import java.util.Iterator;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
-import java.util.stream.Collectors;
 
 /**
+ * Walks the tree once and appends each token straight into a single
+ * {@link Appendable} sink. By default the sink is a {@link StringBuilder}.
+ *
+ * A node is rendered as a sequence of elements separated by a space. If the
+ * position of the node is {@code 0} the elements are: the node token, the leaves
+ * separated by the node delimiter and the child nodes. Otherwise each leaf
+ * and each child node is an element, and the node token is inserted at
+ * the position. If the node joins its child nodes, the last elements are separated
+ * by the node delimiter instead of a space.
+ *
+ * The tree is walked without recursion, so it renders deep trees, such as
+ * long chains of conditions, in linear time.
+ *
  * @author Timur Shaidullin
  */
 final class TreeFormatter {
-    private final Map<Integer, PreparedExpression> parameters = new Hashtable<>();
+    private final Parameters parameters;
+
+    /**
+     * All values must be rendered as literals.
+     */
+    private boolean inline;
+
+    TreeFormatter() {
+        this(new Parameters());
+    }
+
+    /**
+     * @param parameters the prepared expressions are bound to it
+     */
+    TreeFormatter(Parameters parameters) {
+        this.parameters = parameters;
+    }
 
     String buildSQL(Node node) {
         return buildSQL(node, false);
@@ -29,95 +60,210 @@ final class TreeFormatter {
     String buildSQL(Node node, boolean prepare) {
         Objects.requireNonNull(node);
 
-        NodeMetadata metadata = node.getNodeMetadata();
+        StringBuilder builder = new StringBuilder();
 
-        List<String> list   = new ArrayList<>();
-        List<String> leaves = leavesToStrings(node, prepare);
-        Token        token  = metadata.getToken();
+        try {
+            appendNode(builder, node, prepare);
+        } catch (IOException e) {
+            // StringBuilder never throws it
+            throw new UncheckedIOException(e);
+        }
 
-        if (metadata.getPosition() == 0) {
-            if (token.getName().length() > 0)
-                list.add(token.getName());
+        return builder.toString();
+    }
 
-            if (leaves.size() > 0)
-                list.add(String.join(node.getDelimiter(), leaves));
-        } else if (leaves.size() != 0) {
-            list.addAll(leaves);
+    /**
+     * Builds a SQL, where all values are rendered as literals. It is used by
+     * statements, those do not accept parameters, such as {@code COPY}.
+     *
+     * @throws IllegalStateException if the tree contains a named parameter,
+     * it has no literal
+     */
+    String buildInlineSQL(Node node) {
+        inline = true;
+        try {
+            return buildSQL(node, false);
+        } finally {
+            inline = false;
         }
+    }
 
-        if (!node.isEmpty()) {
-            for (Node n : node.getNodes()) {
-                list.add(buildSQL(n, prepare));
-            }
-        }
+    /**
+     * Renders a SQL straight into the {@code out} sink, without building
+     * an intermediate string.
+     *
+     * @param node root node
+     * @param prepare if it is true, the placeholders are rendered instead of values
+     * @param out sink
+     *
+     * @throws IOException if the {@code out} fails
+     */
+    void render(Node node, boolean prepare, Appendable out) throws IOException {
+        Objects.requireNonNull(node);
+        Objects.requireNonNull(out);
+
+        appendNode(out, node, prepare);
+    }
+
+    /**
+     * Renders the tree by an explicit stack instead of recursion, so a depth
+     * of the tree is limited only by the heap. Each node popped from
+     * the stack is expanded to its elements, those are pushed back in reverse
+     * order. The elements are the nodes, the leaves and the strings.
+     */
+    private void appendNode(Appendable builder, Node root, boolean prepare) throws IOException {
+        Object event = QueryEvents.rendering();
+
+        Deque<Object> stack    = new ArrayDeque<>();
+        List<Object>  elements = new ArrayList<>();
+        int           bound    = parameters.size();
+        int           nodes    = 0;
+        long          length   = 0;
 
-        if (metadata.getPosition() != 0) {
-            if (list.size() == 0) {
-                list.add(metadata.getPosition(), token.getName());
+        stack.push(root);
+        while (!stack.isEmpty()) {
+            Object element = stack.pop();
+
+            if (element instanceof Node) {
+                nodes++;
+                elements.clear();
+                expand((Node) element, elements);
+
+                for (int i = elements.size() - 1; i >= 0; i--)
+                    stack.push(elements.get(i));
+            } else if (element instanceof Token) {
+                length += appendLeaf(builder, (Token) element, prepare);
             } else {
-                list.add(metadata.getPosition(), token.getName());
+                String string = (String) element;
+                builder.append(string);
+                length += string.length();
             }
         }
 
-        if (metadata.isJoinNodes() && node.getNodes().size() > 0) {
-            String[] joining = list.stream()
-               .skip(list.size() - node.getNodes().size())
-               .toArray(String[]::new);
+        QueryEvents.rendered(event, root, prepare, false, nodes, length, parameters.size() - bound);
+    }
 
-            list = list.stream()
-               .limit(list.size() - node.getNodes().size())
-               .collect(Collectors.toList());
+    /**
+     * Puts the elements of the {@code node} into {@code elements} in order
+     * of rendering.
+     */
+    private static void expand(Node node, List<Object> elements) {
+        NodeMetadata metadata  = node.getNodeMetadata();
+        List<Token>  leaves    = node.getLeaves();
+        List<Node>   nodes     = node.getNodes();
+        String       delimiter = node.getDelimiter();
+        String       name      = metadata.getToken().getName();
+        int          position  = metadata.getPosition();
 
-            list.add(String.join(node.getDelimiter(), joining));
-        }
+        if (metadata.isParentheses())
+            elements.add("(");
 
-        return new Pipeline(metadata)
-           .process(list);
-    }
+        if (position == 0) {
+            int size     = (name.length() > 0 ? 1 : 0) + (leaves.isEmpty() ? 0 : 1) + nodes.size();
+            int joinFrom = joinFrom(metadata, size, nodes.size());
+            int index    = 0;
 
-    @SuppressWarnings("unchecked")
-    private List<String> leavesToStrings(Node node, boolean prepare) {
-        List<String> list = new ArrayList<>();
+            if (name.length() > 0) {
+                separate(elements, index++, joinFrom, delimiter);
+                elements.add(name);
+            }
 
-        for (Token token : node.getLeaves()) {
-            if (prepare && token instanceof PreparedExpression) {
-                PreparedExpression expression = (PreparedExpression) token;
-                list.add(expression.getPlaceholder());
-                expression.bind(parameters);
-            } else {
-                list.add(token.getName());
+            if (!leaves.isEmpty()) {
+                separate(elements, index++, joinFrom, delimiter);
+
+                Iterator<Token> iterator = leaves.iterator();
+                elements.add(iterator.next());
+                while (iterator.hasNext()) {
+                    elements.add(delimiter);
+                    elements.add(iterator.next());
+                }
             }
-        }
 
-        return list;
-    }
+            for (Node n : nodes) {
+                separate(elements, index++, joinFrom, delimiter);
+                elements.add(n);
+            }
+        } else {
+            int size = leaves.size() + nodes.size() + 1;
+            if (position < 0 || position >= size)
+                throw new IndexOutOfBoundsException("Index: " + position + ", Size: " + (size - 1));
 
-    public Map<Integer, PreparedExpression> getParameters() {
-        return parameters;
-    }
+            int joinFrom = joinFrom(metadata, size, nodes.size());
+            int index    = 0;
 
-    private class Pipeline {
-        private final NodeMetadata metadata;
+            for (Token leaf : leaves) {
+                if (index == position) {
+                    separate(elements, index++, joinFrom, delimiter);
+                    elements.add(name);
+                }
 
-        private Pipeline(NodeMetadata metadata) {
-            this.metadata = metadata;
-        }
+                separate(elements, index++, joinFrom, delimiter);
+                elements.add(leaf);
+            }
 
-        private String process(List<String> list) {
-            list = parentheses(list);
+            for (Node n : nodes) {
+                if (index == position) {
+                    separate(elements, index++, joinFrom, delimiter);
+                    elements.add(name);
+                }
 
-            return String.join(" ", list);
+                separate(elements, index++, joinFrom, delimiter);
+                elements.add(n);
+            }
+
+            if (index == position) {
+                separate(elements, index, joinFrom, delimiter);
+                elements.add(name);
+            }
         }
 
-        private List<String> parentheses(List<String> list) {
-            if (metadata.isParentheses()) {
-                List<String> newList = new ArrayList<>();
-                newList.add("(" + String.join(" ", list) + ")");
+        if (metadata.isParentheses())
+            elements.add(")");
+    }
 
-                return newList;
-            }
+    /**
+     * @return length of the appended string
+     */
+    private int appendLeaf(Appendable builder, Token token, boolean prepare) throws IOException {
+        String string;
 
-            return list;
+        if (prepare && token instanceof PreparedExpression) {
+            string = ((PreparedExpression) token).bindPlaceholder(parameters);
+        } else if (inline && token instanceof PreparedExpression) {
+            string = ((PreparedExpression) token).getLiteral();
+        } else {
+            string = token.getName();
         }
+
+        // Appendable renders null as "null"
+        string = String.valueOf(string);
+        builder.append(string);
+        return string.length();
+    }
+
+    /**
+     * @return index of the first element, those are separated by the node
+     * delimiter. If the node does not join its child nodes, the {@code size}
+     * is returned.
+     */
+    private static int joinFrom(NodeMetadata metadata, int size, int count) {
+        if (metadata.isJoinNodes() && count > 0)
+            return size - count;
+
+        return size;
+    }
+
+    /**
+     * Adds a separator preceding the element at {@code index}.
+     */
+    private static void separate(List<Object> elements, int index, int joinFrom, String delimiter) {
+        if (index > joinFrom)
+            elements.add(delimiter);
+        else if (index > 0)
+            elements.add(" ");
+    }
+
+    public Parameters getParameters() {
+        return parameters;
     }
 }
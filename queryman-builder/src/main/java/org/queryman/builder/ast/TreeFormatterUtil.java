@@ -6,27 +6,19 @@
  */
 package org.queryman.builder.ast;
 
-import org.apache.logging.log4j.Level;
-import org.apache.logging.log4j.LogManager;
-import org.apache.logging.log4j.Logger;
 import org.queryman.builder.Query;
 import org.queryman.builder.Queryman;
-import org.queryman.builder.token.PreparedExpression;
-import org.queryman.builder.token.expression.prepared.ArrayExpression;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
-import java.util.Map;
-import java.util.SortedSet;
-import java.util.TreeSet;
 
 /**
  * @author Timur Shaidullin
  */
 public class TreeFormatterUtil {
-    private final static Logger LOG = LogManager.getLogger("org.queryman.builder.ast");
-
     /**
      * Builds a SQL string.
      *
@@ -34,13 +26,99 @@ public class TreeFormatterUtil {
      * @return SQL string
      */
     static String getSQL(AbstractSyntaxTree tree) {
+        return buildSQL(tree, null);
+    }
+
+    /**
+     * Builds a SQL string and records it to the {@code sample}.
+     *
+     * @param tree abstract syntax tree
+     * @param sample sample of query metrics or {@code null}
+     * @return SQL string
+     *
+     * @see QueryMetrics
+     */
+    public static String buildSQL(AbstractSyntaxTree tree, QueryMetrics.Sample sample) {
+        SqlLogger logger = Queryman.getSqlLogger();
+        long      start  = logger.start();
+
+        if (sample != null)
+            sample.assembled();
+
         String sql = new TreeFormatter().buildSQL(tree.getRootNode());
 
-        LOG.info(sql);
+        if (sample != null) {
+            sample.rendered();
+            sample.finish(tree.getRootNode(), sql, null);
+        }
+
+        logger.log(sql, null);
+        logger.logSlow(sql, null, start);
 
         return sql;
     }
 
+    /**
+     * Builds a SQL string, where all values are rendered as literals.
+     *
+     * @param tree abstract syntax tree
+     * @return SQL string
+     *
+     * @throws IllegalStateException if the tree contains a named parameter
+     */
+    public static String buildInlineSQL(AbstractSyntaxTree tree) {
+        SqlLogger logger = Queryman.getSqlLogger();
+        long      start  = logger.start();
+
+        String sql = new TreeFormatter().buildInlineSQL(tree.getRootNode());
+
+        logger.log(sql, null);
+        logger.logSlow(sql, null, start);
+
+        return sql;
+    }
+
+    /**
+     * Renders a SQL straight into the {@code out} sink. The SQL is not
+     * materialised as a string, so it is not logged.
+     *
+     * @param tree abstract syntax tree
+     * @param out sink, such as {@link StringBuilder}, {@link java.io.Writer} or
+     *            {@link java.nio.CharBuffer}
+     * @return the {@code out} sink
+     *
+     * @throws IOException if the {@code out} fails
+     */
+    public static <A extends Appendable> A render(AbstractSyntaxTree tree, A out) throws IOException {
+        new TreeFormatter().render(tree.getRootNode(), false, out);
+
+        return out;
+    }
+
+    /**
+     * Renders a SQL encoded to UTF-8 straight into the {@code buffer}, starting
+     * at its current position.
+     *
+     * @param tree abstract syntax tree
+     * @param buffer byte buffer
+     * @return the {@code buffer}
+     *
+     * @throws java.nio.BufferOverflowException if the {@code buffer} has not
+     * enough remaining space
+     */
+    public static ByteBuffer render(AbstractSyntaxTree tree, ByteBuffer buffer) {
+        ByteBufferAppender appender = new ByteBufferAppender(buffer);
+
+        try {
+            new TreeFormatter().render(tree.getRootNode(), false, appender);
+        } catch (IOException e) {
+            // ByteBufferAppender never throws it
+            throw new IllegalStateException(e);
+        }
+
+        return appender.finish();
+    }
+
     /**
      * Builds a prepared statement and binds attributes of tree to it.
      *
@@ -52,48 +130,136 @@ public class TreeFormatterUtil {
      */
     public static PreparedStatement buildPreparedStatement(AbstractSyntaxTree tree, Connection conn)
        throws SQLException {
+        return buildPreparedStatement(tree, conn, null);
+    }
 
-        TreeFormatter formatter = new TreeFormatter();
-        String sql = formatter.buildSQL(tree.getRootNode(), true);
-        Map<Integer, PreparedExpression> params = formatter.getParameters();
-
-        LOG.info(sql);
-        if (!params.isEmpty() && LOG.isEnabled(Level.DEBUG)) {
-            StringBuilder builder = new StringBuilder();
-            builder.append("Parameters\n{");
-
-            SortedSet<Integer> sorted = new TreeSet<>(params.keySet());
-            for (int key : sorted) {
-                if (params.get(key) instanceof ArrayExpression)
-                    builder.append(String.format("\n\t%d -> %s", key, String.valueOf(params.get(key))));
-                else
-                    builder.append(String.format("\n\t%d -> %s", key, String.valueOf(params.get(key).getValue())));
-            }
-            builder.append("\n}");
+    /**
+     * Builds a prepared statement, binds attributes of tree to it and
+     * records it to the {@code sample}.
+     *
+     * @param tree abstract syntax tree
+     * @param conn connection is used in creation a prepared statement
+     * @param sample sample of query metrics or {@code null}
+     * @return prepared statement
+     *
+     * @throws SQLException may be thrown during creation a prepared statement
+     *
+     * @see QueryMetrics
+     */
+    public static PreparedStatement buildPreparedStatement(AbstractSyntaxTree tree,
+                                                           Connection conn,
+                                                           QueryMetrics.Sample sample) throws SQLException {
+        SqlLogger logger = Queryman.getSqlLogger();
+        long      start  = logger.start();
 
-            LOG.debug(builder.toString());
-        }
+        if (sample != null)
+            sample.assembled();
+
+        Parameters params = new Parameters();
+        String sql = buildPreparedSQL(tree.getRootNode(), params, Queryman.getSqlCache());
+
+        if (sample != null)
+            sample.rendered();
+
+        logger.log(sql, params);
 
         PreparedStatement statement = conn.prepareStatement(sql);
 
         JavaTypeToJdbc mapping = new JavaTypeToJdbc(conn, statement);
-        return mapping.bind(formatter.getParameters());
+        mapping.bind(params);
+
+        if (sample != null) {
+            sample.bound();
+            sample.finish(tree.getRootNode(), sql, params);
+        }
+
+        logger.logSlow(sql, params, start);
+
+        return KeyStaging.wrap(conn, statement, params.getStaged());
+    }
+
+    /**
+     * Compiles a tree to a template. The tree is rendered once, the prepared
+     * expressions are captured by the template.
+     *
+     * @param tree abstract syntax tree
+     * @return query template
+     */
+    public static QueryTemplate buildTemplate(AbstractSyntaxTree tree) {
+        Parameters params = new Parameters();
+        String sql = new TreeFormatter(params).buildSQL(tree.getRootNode(), true);
+
+        return new QueryTemplate(sql, params);
+    }
+
+    /**
+     * Builds a SQL string of a sub query, where all values are rendered as
+     * literals. The SQL is a part of an outer one, so it is not logged.
+     *
+     * @param query sub query
+     * @return SQL string
+     *
+     * @throws IllegalStateException if the query contains a named parameter
+     */
+    public static String buildInlineSQL(Query query) {
+        AbstractSyntaxTree tree = Queryman.getTree();
+        query.assemble(tree);
+
+        return new TreeFormatter().buildInlineSQL(tree.getRootNode());
     }
 
     public static String buildPreparedSQL(Query query) {
         AbstractSyntaxTree tree = Queryman.getTree();
         query.assemble(tree);
 
-        TreeFormatter formatter = new TreeFormatter();
-        return formatter.buildSQL(tree.getRootNode(), true);
+        return buildPreparedSQL(tree.getRootNode(), new Parameters(), Queryman.getSqlCache());
     }
 
-    public static Map<Integer, PreparedExpression> buildPreparedParameters(Query query) {
+    public static Parameters buildPreparedParameters(Query query) {
         AbstractSyntaxTree tree = Queryman.getTree();
         query.assemble(tree);
 
-        TreeFormatter formatter = new TreeFormatter();
-        formatter.buildSQL(tree.getRootNode(), true);
-        return formatter.getParameters();
+        return buildPreparedParameters(tree);
+    }
+
+    /**
+     * @param tree abstract syntax tree
+     * @return parameters of the tree in order of their placeholders
+     */
+    public static Parameters buildPreparedParameters(AbstractSyntaxTree tree) {
+        Parameters params = new Parameters();
+        buildPreparedSQL(tree.getRootNode(), params, Queryman.getSqlCache());
+        return params;
+    }
+
+    /**
+     * Builds a prepared SQL string and binds the prepared expressions to
+     * {@code params}. If the {@code cache} is enabled, the SQL is taken
+     * from it by the shape of the tree, and it is rendered only on a miss.
+     * A hit is traced by a rendering event with the cache hit flag.
+     */
+    static String buildPreparedSQL(Node root, Parameters params, SqlCache cache) {
+        if (!cache.isEnabled())
+            return new TreeFormatter(params).buildSQL(root, true);
+
+        Object     event = QueryEvents.rendering();
+        int        bound = params.size();
+        QueryShape shape = QueryShape.probe(root, params);
+
+        try {
+            String sql = cache.get(shape);
+
+            if (sql == null) {
+                // the parameters are already bound by the shape
+                sql = new TreeFormatter().buildSQL(root, true);
+                cache.put(shape.copy(), sql);
+            } else {
+                QueryEvents.rendered(event, root, true, true, shape.nodeCount(), sql.length(), params.size() - bound);
+            }
+
+            return sql;
+        } finally {
+            shape.release();
+        }
     }
 }
@@ -21,6 +21,30 @@ public final class JaxbMetadataAdapter {
         Properties properties = new Properties();
         properties.setProperty(Settings.USE_UPPERCASE, String.valueOf(jaxbCfg.useUppercase));
 
+        if (jaxbCfg.sqlCacheSize != null)
+            properties.setProperty(Settings.SQL_CACHE_SIZE, String.valueOf(jaxbCfg.sqlCacheSize));
+
+        if (jaxbCfg.inListArrayThreshold != null)
+            properties.setProperty(Settings.IN_LIST_ARRAY_THRESHOLD, String.valueOf(jaxbCfg.inListArrayThreshold));
+
+        if (jaxbCfg.inListPadding != null)
+            properties.setProperty(Settings.IN_LIST_PADDING, String.valueOf(jaxbCfg.inListPadding));
+
+        if (jaxbCfg.inListTempTableThreshold != null)
+            properties.setProperty(Settings.IN_LIST_TEMP_TABLE_THRESHOLD, String.valueOf(jaxbCfg.inListTempTableThreshold));
+
+        if (jaxbCfg.sqlLogging != null)
+            properties.setProperty(Settings.SQL_LOGGING, jaxbCfg.sqlLogging);
+
+        if (jaxbCfg.sqlLoggingSampleRate != null)
+            properties.setProperty(Settings.SQL_LOGGING_SAMPLE_RATE, String.valueOf(jaxbCfg.sqlLoggingSampleRate));
+
+        if (jaxbCfg.sqlLoggingSlowThreshold != null)
+            properties.setProperty(Settings.SQL_LOGGING_SLOW_THRESHOLD, String.valueOf(jaxbCfg.sqlLoggingSlowThreshold));
+
+        if (jaxbCfg.metrics != null)
+            properties.setProperty(Settings.METRICS, String.valueOf(jaxbCfg.metrics));
+
         return properties;
     }
 }
@@ -22,6 +22,30 @@ public final class PropertiesMetadataAdapter {
         if (properties.containsKey(Settings.USE_UPPERCASE))
             properties1.setProperty(Settings.USE_UPPERCASE, properties.getProperty(Settings.USE_UPPERCASE));
 
+        if (properties.containsKey(Settings.SQL_CACHE_SIZE))
+            properties1.setProperty(Settings.SQL_CACHE_SIZE, properties.getProperty(Settings.SQL_CACHE_SIZE));
+
+        if (properties.containsKey(Settings.IN_LIST_ARRAY_THRESHOLD))
+            properties1.setProperty(Settings.IN_LIST_ARRAY_THRESHOLD, properties.getProperty(Settings.IN_LIST_ARRAY_THRESHOLD));
+
+        if (properties.containsKey(Settings.IN_LIST_PADDING))
+            properties1.setProperty(Settings.IN_LIST_PADDING, properties.getProperty(Settings.IN_LIST_PADDING));
+
+        if (properties.containsKey(Settings.IN_LIST_TEMP_TABLE_THRESHOLD))
+            properties1.setProperty(Settings.IN_LIST_TEMP_TABLE_THRESHOLD, properties.getProperty(Settings.IN_LIST_TEMP_TABLE_THRESHOLD));
+
+        if (properties.containsKey(Settings.SQL_LOGGING))
+            properties1.setProperty(Settings.SQL_LOGGING, properties.getProperty(Settings.SQL_LOGGING));
+
+        if (properties.containsKey(Settings.SQL_LOGGING_SAMPLE_RATE))
+            properties1.setProperty(Settings.SQL_LOGGING_SAMPLE_RATE, properties.getProperty(Settings.SQL_LOGGING_SAMPLE_RATE));
+
+        if (properties.containsKey(Settings.SQL_LOGGING_SLOW_THRESHOLD))
+            properties1.setProperty(Settings.SQL_LOGGING_SLOW_THRESHOLD, properties.getProperty(Settings.SQL_LOGGING_SLOW_THRESHOLD));
+
+        if (properties.containsKey(Settings.METRICS))
+            properties1.setProperty(Settings.METRICS, properties.getProperty(Settings.METRICS));
+
         return properties1;
     }
 }
@@ -16,4 +16,28 @@ import javax.xml.bind.annotation.XmlRootElement;
 public class JaxbCfg {
     @XmlElement(name = "use-uppercase")
     public boolean useUppercase = false;
+
+    @XmlElement(name = "sql-cache-size")
+    public Integer sqlCacheSize;
+
+    @XmlElement(name = "in-list-array-threshold")
+    public Integer inListArrayThreshold;
+
+    @XmlElement(name = "in-list-padding")
+    public Boolean inListPadding;
+
+    @XmlElement(name = "in-list-temp-table-threshold")
+    public Integer inListTempTableThreshold;
+
+    @XmlElement(name = "sql-logging")
+    public String sqlLogging;
+
+    @XmlElement(name = "sql-logging-sample-rate")
+    public Integer sqlLoggingSampleRate;
+
+    @XmlElement(name = "sql-logging-slow-threshold")
+    public Integer sqlLoggingSlowThreshold;
+
+    @XmlElement(name = "metrics")
+    public Boolean metrics;
 }
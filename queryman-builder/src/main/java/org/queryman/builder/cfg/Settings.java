@@ -17,12 +17,28 @@ import java.util.Map;
 public final class Settings {
     public static final String[] settings = new String[]{
        Settings.USE_UPPERCASE,
+       Settings.SQL_CACHE_SIZE,
+       Settings.IN_LIST_ARRAY_THRESHOLD,
+       Settings.IN_LIST_PADDING,
+       Settings.IN_LIST_TEMP_TABLE_THRESHOLD,
+       Settings.SQL_LOGGING,
+       Settings.SQL_LOGGING_SAMPLE_RATE,
+       Settings.SQL_LOGGING_SLOW_THRESHOLD,
+       Settings.METRICS,
     };
 
     public static final Map<String, String> DEFAULTS = new HashMap<String, String>();
 
     static {
         DEFAULTS.put(Settings.USE_UPPERCASE, "false");
+        DEFAULTS.put(Settings.SQL_CACHE_SIZE, "0");
+        DEFAULTS.put(Settings.IN_LIST_ARRAY_THRESHOLD, "32");
+        DEFAULTS.put(Settings.IN_LIST_PADDING, "false");
+        DEFAULTS.put(Settings.IN_LIST_TEMP_TABLE_THRESHOLD, "0");
+        DEFAULTS.put(Settings.SQL_LOGGING, "full");
+        DEFAULTS.put(Settings.SQL_LOGGING_SAMPLE_RATE, "100");
+        DEFAULTS.put(Settings.SQL_LOGGING_SLOW_THRESHOLD, "100");
+        DEFAULTS.put(Settings.METRICS, "false");
     }
 
     /**
@@ -30,4 +46,63 @@ public final class Settings {
      * to uppercase otherwise them are converted to lowercase.
      */
     public static final String USE_UPPERCASE = "queryman.builder.use_uppercase";
+
+    /**
+     * Maximum number of prepared SQL strings are cached by the shape of
+     * a query. If value equal {@code 0}, the cache is disabled.
+     */
+    public static final String SQL_CACHE_SIZE = "queryman.builder.sql_cache_size";
+
+    /**
+     * A condition {@code IN} or {@code NOT IN} with a list of more constants
+     * than the value is rewritten to {@code = ANY(?)} or {@code <> ALL(?)}
+     * with a single array parameter. If value equal {@code 0}, the lists are
+     * never rewritten.
+     */
+    public static final String IN_LIST_ARRAY_THRESHOLD = "queryman.builder.in_list_array_threshold";
+
+    /**
+     * If value equal {@code true}, then a list of condition {@code IN} or
+     * {@code NOT IN}, those is not rewritten to an array, is padded up to
+     * the next power of two (8, 16, 32 ...) by repeating its last element.
+     */
+    public static final String IN_LIST_PADDING = "queryman.builder.in_list_padding";
+
+    /**
+     * A condition {@code IN} or {@code NOT IN} with a list of more constants
+     * than the value is rewritten to {@code IN (SELECT key FROM ...)} or
+     * {@code NOT EXISTS (...)} of a temporary table. The table is filled on
+     * the connection, each time the prepared statement is executed. If value equal
+     * {@code 0}, the lists are never staged.
+     */
+    public static final String IN_LIST_TEMP_TABLE_THRESHOLD = "queryman.builder.in_list_temp_table_threshold";
+
+    /**
+     * Which built SQL strings are logged: {@code off}, {@code sampled},
+     * {@code slow} or {@code full}. In {@code off} mode the logging does no
+     * work at all.
+     *
+     * @see org.queryman.builder.ast.SqlLogger.Mode
+     */
+    public static final String SQL_LOGGING = "queryman.builder.sql_logging";
+
+    /**
+     * One of so many SQL strings is logged in {@code sampled} mode.
+     */
+    public static final String SQL_LOGGING_SAMPLE_RATE = "queryman.builder.sql_logging_sample_rate";
+
+    /**
+     * A SQL string is logged in {@code slow} mode, if its rendering and
+     * binding took at least so many milliseconds.
+     */
+    public static final String SQL_LOGGING_SLOW_THRESHOLD = "queryman.builder.sql_logging_slow_threshold";
+
+    /**
+     * If value equal {@code true}, then the time of building, the length of
+     * SQL and the number of parameters of the statements are measured per
+     * a shape of query and are exposed over JMX.
+     *
+     * @see org.queryman.builder.ast.QueryMetrics
+     */
+    public static final String METRICS = "queryman.builder.metrics";
 }
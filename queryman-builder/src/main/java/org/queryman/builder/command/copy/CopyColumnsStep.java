@@ -0,0 +1,31 @@
+/*
+ *  Queryman. Java tools for working with queries of PostgreSQL database.
+ *
+ *  License: MIT License
+ *  To see license follow by http://queryman.org/license.txt
+ */
+package org.queryman.builder.command.copy;
+
+import org.queryman.builder.token.Expression;
+
+/**
+ * COPY .. (column_name [, ...]) step. If the columns are not specified,
+ * the values of each row follow all columns of the table.
+ *
+ * @author Timur Shaidullin
+ */
+public interface CopyColumnsStep extends CopyFormatStep {
+    /**
+     * @param columns set of columns
+     * @return copy format step
+     *
+     * @see #columns(Expression...)
+     */
+    CopyFormatStep columns(String... columns);
+
+    /**
+     * @param columns set of columns
+     * @return copy format step
+     */
+    CopyFormatStep columns(Expression... columns);
+}
@@ -0,0 +1,60 @@
+/*
+ *  Queryman. Java tools for working with queries of PostgreSQL database.
+ *
+ *  License: MIT License
+ *  To see license follow by http://queryman.org/license.txt
+ */
+package org.queryman.builder.command.copy;
+
+import org.queryman.builder.Query;
+import org.queryman.builder.ast.AstVisitor;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * The rows are streamed to the server by the copy API of the PostgreSQL
+ * driver. Each row is an array of values, those are converted as
+ * the constants of a query, e.g. by {@link org.queryman.builder.Queryman#asConstant(Object)}.
+ * A {@code null} value is copied as NULL.
+ *
+ * @author Timur Shaidullin
+ */
+public interface CopyFinalStep extends Query, AstVisitor {
+    /**
+     * Sets a size of buffer of encoded rows, by default it is
+     * {@link org.queryman.builder.ast.JdbcCopy#DEFAULT_BUFFER_SIZE} bytes.
+     *
+     * @param size size in bytes
+     * @return current step
+     */
+    CopyFinalStep bufferSize(int size);
+
+    /**
+     * Copies the rows. The rows are pulled from the {@code rows} while they
+     * are sent, so they are never held in memory all together.
+     *
+     * @param conn connection
+     * @param rows rows
+     * @return number of copied rows
+     *
+     * @throws SQLException if the copy fails
+     * @throws IllegalArgumentException if a value cannot be copied, or a row
+     * has a number of values distinct from the number of columns
+     */
+    long execute(Connection conn, Iterator<? extends Object[]> rows) throws SQLException;
+
+    /**
+     * @see #execute(Connection, Iterator)
+     */
+    long execute(Connection conn, Iterable<? extends Object[]> rows) throws SQLException;
+
+    /**
+     * The stream is not closed.
+     *
+     * @see #execute(Connection, Iterator)
+     */
+    long execute(Connection conn, Stream<? extends Object[]> rows) throws SQLException;
+}
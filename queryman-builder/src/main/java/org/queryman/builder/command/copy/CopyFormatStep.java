@@ -0,0 +1,30 @@
+/*
+ *  Queryman. Java tools for working with queries of PostgreSQL database.
+ *
+ *  License: MIT License
+ *  To see license follow by http://queryman.org/license.txt
+ */
+package org.queryman.builder.command.copy;
+
+/**
+ * COPY .. FROM STDIN (FORMAT format_name) step. By default the format is csv.
+ *
+ * @author Timur Shaidullin
+ */
+public interface CopyFormatStep extends CopyFinalStep {
+    /**
+     * Comma separated values.
+     *
+     * @return copy final step
+     */
+    CopyFinalStep csv();
+
+    /**
+     * PostgreSQL binary format. The Java types of values must match the types
+     * of columns exactly, e.g. {@code Long} for bigint, {@code OffsetDateTime}
+     * for timestamptz.
+     *
+     * @return copy final step
+     */
+    CopyFinalStep binary();
+}
@@ -7,35 +7,128 @@
 package org.queryman.builder.command.impl;
 
 import org.queryman.builder.Query;
+import org.queryman.builder.Queryman;
 import org.queryman.builder.ast.AbstractSyntaxTree;
 import org.queryman.builder.ast.Node;
 import org.queryman.builder.ast.NodeImpl;
 import org.queryman.builder.ast.NodeMetadata;
 import org.queryman.builder.command.Conditions;
 import org.queryman.builder.token.Expression;
-
+import org.queryman.builder.token.PreparedExpression;
+import org.queryman.builder.token.expression.ListExpression;
+import org.queryman.builder.token.expression.prepared.ListArrayExpression;
+import org.queryman.builder.token.expression.prepared.StagedListExpression;
+
+import static org.queryman.builder.Operators.EQUAL;
+import static org.queryman.builder.Operators.IN;
+import static org.queryman.builder.Operators.NE2;
+import static org.queryman.builder.Operators.NOT_IN;
+import static org.queryman.builder.Queryman.all;
+import static org.queryman.builder.Queryman.any;
 import static org.queryman.builder.Queryman.condition;
 import static org.queryman.builder.Queryman.conditionExists;
 import static org.queryman.builder.Queryman.getTree;
 import static org.queryman.builder.ast.NodesMetadata.AND;
 import static org.queryman.builder.ast.NodesMetadata.AND_NOT;
+import static org.queryman.builder.ast.NodesMetadata.EMPTY;
 import static org.queryman.builder.ast.NodesMetadata.OR;
 import static org.queryman.builder.ast.NodesMetadata.OR_NOT;
 
 /**
+ * A chain of conditions is kept as a single flat node: the first
+ * condition is followed by operand nodes, such as {@code AND id = 1}.
+ * So adding a condition is a constant time operation and the depth of
+ * the tree does not grow with the length of the chain.
+ *
  * @author Timur Shaidullin
  */
 public final class ConditionsImpl implements
    Conditions {
 
+    private static final NodeMetadata AND_OPERAND     = AND.setPosition(0);
+    private static final NodeMetadata AND_NOT_OPERAND = AND_NOT.setPosition(0);
+    private static final NodeMetadata OR_OPERAND      = OR.setPosition(0);
+    private static final NodeMetadata OR_NOT_OPERAND  = OR_NOT.setPosition(0);
+
     private Node node;
 
+    /**
+     * The {@link #node} is a chain of conditions created by this instance.
+     */
+    private boolean chain;
+
+    /**
+     * The {@link #node} may be referenced outside, so it must not be changed.
+     */
+    private boolean shared;
+
+    /**
+     * A list of {@code IN} and {@code NOT IN} conditions is rewritten
+     * depending on its size:
+     * <ul>
+     *     <li>if it exceeds {@link Queryman#getInListTempTableThreshold()},
+     *     it is staged into a temporary table, so the condition becomes
+     *     {@code IN (SELECT key FROM ...)} or {@code NOT EXISTS (...)}.
+     *     The left operand must not be a prepared expression</li>
+     *     <li>if it exceeds {@link Queryman#getInListArrayThreshold()},
+     *     it is converted to an array, so the condition becomes
+     *     {@code = ANY(?)} or {@code <> ALL(?)}</li>
+     *     <li>otherwise it is padded if {@link Queryman#isInListPadding()}
+     *     is true</li>
+     * </ul>
+     * Thus the prepared SQL does not depend on the size of list. A list
+     * those elements are not constants of the same type is not staged and
+     * not converted.
+     */
     public ConditionsImpl(Expression leftValue, NodeMetadata metadata, Expression rightValue) {
+        if (isInList(metadata, rightValue)) {
+            ListExpression<?> list  = (ListExpression<?>) rightValue;
+            boolean           in    = IN.getName().equalsIgnoreCase(metadata.getToken().getName());
+            boolean           stage = !(leftValue instanceof PreparedExpression)
+               && exceeds(list, Queryman.getInListTempTableThreshold());
+
+            ListArrayExpression array = stage || exceeds(list, Queryman.getInListArrayThreshold())
+               ? list.toArrayExpression()
+               : null;
+
+            if (array != null && stage) {
+                // the staged list renders the whole condition
+                node = new NodeImpl(EMPTY)
+                   .addLeaf(new StagedListExpression(leftValue, in, list, array));
+                return;
+            }
+
+            if (array != null) {
+                metadata = new NodeMetadata(in ? EQUAL : NE2);
+                rightValue = in ? any(array) : all(array);
+            } else if (Queryman.isInListPadding()) {
+                rightValue = list.padded();
+            }
+        }
+
         node = new NodeImpl(metadata)
            .addLeaf(leftValue)
            .addLeaf(rightValue);
     }
 
+    /**
+     * @return true if the threshold is enabled and the size of list exceeds it
+     */
+    private static boolean exceeds(ListExpression<?> list, int threshold) {
+        return threshold > 0 && list.size() > threshold;
+    }
+
+    /**
+     * @return true if the condition is {@code IN} or {@code NOT IN} with a list
+     */
+    private static boolean isInList(NodeMetadata metadata, Expression rightValue) {
+        if (!(rightValue instanceof ListExpression))
+            return false;
+
+        String operator = metadata.getToken().getName();
+        return IN.getName().equalsIgnoreCase(operator) || NOT_IN.getName().equalsIgnoreCase(operator);
+    }
+
     /**
      * Ordinarily this constructor is used by <code>BETWEEN .. AND ..</code>
      * clause.
@@ -54,6 +147,7 @@ public final class ConditionsImpl implements
 
     public ConditionsImpl(Conditions conditions) {
         node = rebuildNodeMetadata(conditions.getNode(), false);
+        shared = true;
     }
 
     /**
@@ -82,27 +176,40 @@ public final class ConditionsImpl implements
     }
 
     /**
-     * Instantiate a new {@link #node} with {@code metadata}, that contains
-     * the previous {@link #node} value as first child node and the {@code conditions}
-     * as second child node.
+     * Appends an operand node with {@code metadata}, that contains
+     * the {@code node1}, to the chain of conditions. If the {@link #node}
+     * is not a chain yet, or it is grouped, a new chain is started with
+     * the {@link #node} as its first element. If the chain is shared,
+     * it is copied before.
      * <p>
-     * The second node is derived out of {@code conditions} and its metadata
-     * is rebuilt if it is needed.
+     * The {@code node1} metadata is rebuilt if it is needed.
      *
      * @see #rebuildNodeMetadata(Node, boolean)
      */
     private void rebuildNode(NodeMetadata metadata, Node node1) {
-        node = new NodeImpl(metadata)
-           .addChildNode(node)
-           .addChildNode(rebuildNodeMetadata(node1, false));
+        if (!chain || node.getNodeMetadata().isParentheses()) {
+            node = new NodeImpl(EMPTY).addChildNode(node);
+            chain = true;
+        } else if (shared) {
+            Node copy = new NodeImpl(EMPTY);
+            for (Node n : node.getNodes())
+                copy.addChildNode(n);
+
+            node = copy;
+        }
+
+        shared = false;
+        node.addChildNode(
+           new NodeImpl(metadata).addChildNode(rebuildNodeMetadata(node1, false))
+        );
     }
 
     /**
-     * If the node has two child nodes or {@code force} is true,
+     * If the node has at least two child nodes or {@code force} is true,
      * a {@code metadata} parentheses is set up.
      */
     private Node rebuildNodeMetadata(Node node1, boolean force) {
-        if (force || node1.count() == 2) {
+        if (force || node1.count() >= 2) {
             NodeMetadata nodeMetadata = node1.getNodeMetadata().setParentheses(true);
             node1.setNodeMetadata(nodeMetadata);
         }
@@ -122,7 +229,7 @@ public final class ConditionsImpl implements
 
     @Override
     public final Conditions and(Conditions conditions) {
-        rebuildNode(AND, conditions.getNode());
+        rebuildNode(AND_OPERAND, conditions.getNode());
         return this;
     }
 
@@ -140,7 +247,7 @@ public final class ConditionsImpl implements
 
     @Override
     public final Conditions andNot(Conditions conditions) {
-        rebuildNode(AND_NOT, conditions.getNode());
+        rebuildNode(AND_NOT_OPERAND, conditions.getNode());
         return this;
     }
 
@@ -158,7 +265,7 @@ public final class ConditionsImpl implements
 
     @Override
     public final Conditions or(Conditions conditions) {
-        rebuildNode(OR, conditions.getNode());
+        rebuildNode(OR_OPERAND, conditions.getNode());
         return this;
     }
 
@@ -176,7 +283,7 @@ public final class ConditionsImpl implements
 
     @Override
     public final Conditions orNot(Conditions conditions) {
-        rebuildNode(OR_NOT, conditions.getNode());
+        rebuildNode(OR_NOT_OPERAND, conditions.getNode());
         return this;
     }
 
@@ -188,6 +295,7 @@ public final class ConditionsImpl implements
 
     @Override
     public Node getNode() {
+        shared = true;
         return node;
     }
 
@@ -207,6 +315,7 @@ public final class ConditionsImpl implements
             e.printStackTrace();
         }
 
+        shared = true;
         tree.addChildNode(node);
     }
 }
@@ -0,0 +1,112 @@
+/*
+ *  Queryman. Java tools for working with queries of PostgreSQL database.
+ *
+ *  License: MIT License
+ *  To see license follow by http://queryman.org/license.txt
+ */
+package org.queryman.builder.command.impl;
+
+import org.queryman.builder.AbstractQuery;
+import org.queryman.builder.ast.AbstractSyntaxTree;
+import org.queryman.builder.ast.CopyFormat;
+import org.queryman.builder.ast.JdbcCopy;
+import org.queryman.builder.command.copy.CopyColumnsStep;
+import org.queryman.builder.command.copy.CopyFinalStep;
+import org.queryman.builder.command.copy.CopyFormatStep;
+import org.queryman.builder.token.Expression;
+import org.queryman.builder.utils.ArrayUtils;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import static org.queryman.builder.Keywords.COPY;
+import static org.queryman.builder.Keywords.FORMAT;
+import static org.queryman.builder.Keywords.FROM_STDIN;
+import static org.queryman.builder.Queryman.asName;
+import static org.queryman.builder.Queryman.nodeMetadata;
+import static org.queryman.builder.ast.NodesMetadata.EMPTY_GROUPED;
+
+/**
+ * Implementation of COPY .. FROM STDIN statement.
+ *
+ * @author Timur Shaidullin
+ */
+public class CopyImpl extends AbstractQuery implements
+   CopyColumnsStep,
+   CopyFormatStep,
+   CopyFinalStep {
+
+    private final Expression   table;
+    private       Expression[] columns;
+    private       CopyFormat   format     = CopyFormat.CSV;
+    private       int          bufferSize = JdbcCopy.DEFAULT_BUFFER_SIZE;
+
+    public CopyImpl(Expression table) {
+        this.table = table;
+    }
+
+    @Override
+    public void assemble(AbstractSyntaxTree tree) {
+        tree.startNode(nodeMetadata(COPY))
+           .addLeaf(table);
+
+        if (columns != null)
+            tree.startNode(EMPTY_GROUPED, ", ")
+               .addLeaves(columns)
+               .endNode();
+
+        tree.startNode(nodeMetadata(FROM_STDIN)).endNode();
+
+        tree.startNode(nodeMetadata(FORMAT).setParentheses(true))
+           .addLeaf(asName(format.getName()))
+           .endNode();
+
+        tree.endNode();
+    }
+
+    @Override
+    public final CopyImpl columns(String... columns) {
+        return columns(ArrayUtils.toExpressions(columns));
+    }
+
+    @Override
+    public final CopyImpl columns(Expression... columns) {
+        this.columns = columns;
+        return this;
+    }
+
+    @Override
+    public final CopyImpl csv() {
+        format = CopyFormat.CSV;
+        return this;
+    }
+
+    @Override
+    public final CopyImpl binary() {
+        format = CopyFormat.BINARY;
+        return this;
+    }
+
+    @Override
+    public final CopyImpl bufferSize(int size) {
+        bufferSize = size;
+        return this;
+    }
+
+    @Override
+    public final long execute(Connection conn, Iterator<? extends Object[]> rows) throws SQLException {
+        return JdbcCopy.copyIn(conn, sql(), format, columns == null ? -1 : columns.length, rows, bufferSize);
+    }
+
+    @Override
+    public final long execute(Connection conn, Iterable<? extends Object[]> rows) throws SQLException {
+        return execute(conn, rows.iterator());
+    }
+
+    @Override
+    public final long execute(Connection conn, Stream<? extends Object[]> rows) throws SQLException {
+        return execute(conn, rows.iterator());
+    }
+}
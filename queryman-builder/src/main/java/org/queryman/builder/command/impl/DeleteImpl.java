@@ -133,6 +133,31 @@ public class DeleteImpl extends AbstractQuery implements
         return where(condition(left, operator, right));
     }
 
+    @Override
+    public final DeleteImpl where(String column, String operator, int value) {
+        return where(condition(column, operator, value));
+    }
+
+    @Override
+    public final DeleteImpl where(String column, String operator, long value) {
+        return where(condition(column, operator, value));
+    }
+
+    @Override
+    public final DeleteImpl where(String column, String operator, short value) {
+        return where(condition(column, operator, value));
+    }
+
+    @Override
+    public final DeleteImpl where(String column, String operator, byte value) {
+        return where(condition(column, operator, value));
+    }
+
+    @Override
+    public final DeleteImpl where(String column, String operator, char value) {
+        return where(condition(column, operator, value));
+    }
+
     @Override
     public final DeleteImpl where(Conditions conditions) {
         this.conditions = new ConditionsImpl(conditions);
@@ -11,6 +11,9 @@ import org.queryman.builder.Query;
 import org.queryman.builder.Queryman;
 import org.queryman.builder.ast.AbstractSyntaxTree;
 import org.queryman.builder.ast.NodesMetadata;
+import org.queryman.builder.ast.Parameters;
+import org.queryman.builder.ast.ReusableStatement;
+import org.queryman.builder.ast.TreeFormatterUtil;
 import org.queryman.builder.command.Conditions;
 import org.queryman.builder.command.ConflictTarget;
 import org.queryman.builder.command.insert.InsertAsStep;
@@ -29,8 +32,13 @@ import org.queryman.builder.command.insert.InsertOverridingStep;
 import org.queryman.builder.command.insert.InsertValuesManyStep;
 import org.queryman.builder.command.insert.InsertValuesStep;
 import org.queryman.builder.token.Expression;
+import org.queryman.builder.token.PreparedExpression;
 import org.queryman.builder.utils.ArrayUtils;
 
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -81,12 +89,12 @@ public class InsertImpl extends AbstractQuery implements
 
     private final Expression table;
     private final List<Map<Expression, Expression>> setList = new ArrayList<>();
+    private final List<Expression[]>                rows    = new ArrayList<>();
     private Expression       alias;
     private Expression[]     columns;
     private boolean          overridingSystemValue;
     private boolean          overridingUserValue;
     private boolean          defaultValues;
-    private Expression[]     values;
     private Query            queryValues;
     private boolean          onConflict;
     private ConflictTarget[] conflictTargets;
@@ -111,6 +119,13 @@ public class InsertImpl extends AbstractQuery implements
 
     @Override
     public void assemble(AbstractSyntaxTree tree) {
+        assemble(tree, rows);
+    }
+
+    /**
+     * Assembles the insert with the given {@code rows} of VALUES.
+     */
+    private void assemble(AbstractSyntaxTree tree, List<Expression[]> rows) {
         if (with != null)
             tree.startNode(EMPTY)
                .peek(with);
@@ -135,12 +150,14 @@ public class InsertImpl extends AbstractQuery implements
 
         if (defaultValues)
             tree.startNode(nodeMetadata(DEFAULT_VALUES)).endNode();
-        else if (values != null)
-            tree.startNode(nodeMetadata(VALUES), ", ")
-               .startNode(EMPTY_GROUPED, ", ")
-               .addLeaves(values)
-               .endNode()
-               .endNode();
+        else if (!rows.isEmpty()) {
+            tree.startNode(nodeMetadata(VALUES).setJoinNodes(true), ", ");
+            for (Expression[] row : rows)
+                tree.startNode(EMPTY_GROUPED, ", ")
+                   .addLeaves(row)
+                   .endNode();
+            tree.endNode();
+        }
         else if (queryValues != null)
             tree.startNode(EMPTY)
                .addLeaf(asSubQuery(queryValues))
@@ -247,7 +264,15 @@ public class InsertImpl extends AbstractQuery implements
     @Override
     public final InsertImpl values(Expression... values) {
         Function<Expression, Expression> func = v -> v == null ? asConstant(null) :v;
-        this.values = toExpressions(func, values);
+        rows.add(toExpressions(func, values));
+        return this;
+    }
+
+    @Override
+    public final InsertImpl valuesRows(Iterable<? extends Object[]> rows) {
+        for (Object[] row : rows)
+            values(toExpressions(Queryman::asConstant, row));
+
         return this;
     }
 
@@ -452,4 +477,71 @@ public class InsertImpl extends AbstractQuery implements
         returning = output;
         return this;
     }
+
+    @Override
+    public final long executeInChunks(Connection conn) throws SQLException {
+        if (rows.isEmpty())
+            try (PreparedStatement statement = buildPreparedStatement(conn)) {
+                return execute(statement);
+            }
+
+        int[] counts = new int[rows.size()];
+        for (int i = 0; i < counts.length; i++)
+            counts[i] = countParameters(rows.get(i));
+
+        AbstractSyntaxTree tree = Queryman.getTree();
+        assemble(tree, rows.subList(0, 1));
+        int overhead = TreeFormatterUtil.buildPreparedParameters(tree).size() - counts[0];
+
+        long inserted = 0;
+        try (ReusableStatement statement = new ReusableStatement(conn)) {
+            int from = 0;
+            while (from < counts.length) {
+                int to    = from;
+                int total = overhead;
+
+                while (to < counts.length && total + counts[to] <= Parameters.MAX_PARAMETERS)
+                    total += counts[to++];
+
+                if (to == from)
+                    throw new IllegalStateException(
+                       String.format("Row %d exceeds the limit of %d parameters", from, Parameters.MAX_PARAMETERS)
+                    );
+
+                tree = Queryman.getTree();
+                assemble(tree, rows.subList(from, to));
+                inserted += execute(statement.prepare(tree));
+
+                from = to;
+            }
+        }
+
+        return inserted;
+    }
+
+    /**
+     * @return number of affected rows, or number of returned rows if
+     * the insert has RETURNING clause
+     */
+    private static long execute(PreparedStatement statement) throws SQLException {
+        if (!statement.execute())
+            return statement.getUpdateCount();
+
+        long count = 0;
+        try (ResultSet result = statement.getResultSet()) {
+            while (result.next())
+                count++;
+        }
+
+        return count;
+    }
+
+    private static int countParameters(Expression[] row) {
+        Parameters params = new Parameters(row.length);
+        for (Expression expression : row)
+            if (expression instanceof PreparedExpression)
+                ((PreparedExpression) expression).bind(params);
+
+        return params.size();
+    }
 }
@@ -10,7 +10,10 @@ import org.queryman.builder.AbstractQuery;
 import org.queryman.builder.Query;
 import org.queryman.builder.Queryman;
 import org.queryman.builder.ast.AbstractSyntaxTree;
+import org.queryman.builder.ast.CopyFormat;
+import org.queryman.builder.ast.JdbcCopy;
 import org.queryman.builder.ast.NodesMetadata;
+import org.queryman.builder.ast.TreeFormatterUtil;
 import org.queryman.builder.command.Conditions;
 import org.queryman.builder.command.clause.Join;
 import org.queryman.builder.command.clause.Locking;
@@ -38,6 +41,11 @@ import org.queryman.builder.utils.ArrayUtils;
 import org.queryman.builder.utils.ExpressionUtil;
 import org.queryman.builder.utils.Tools;
 
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.sql.Connection;
+import java.sql.SQLException;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -46,18 +54,23 @@ import java.util.List;
 import java.util.Stack;
 import java.util.stream.Collectors;
 
+import static org.queryman.builder.Keywords.COPY;
 import static org.queryman.builder.Keywords.EXCEPT;
 import static org.queryman.builder.Keywords.EXCEPT_ALL;
+import static org.queryman.builder.Keywords.FORMAT;
 import static org.queryman.builder.Keywords.INTERSECT;
 import static org.queryman.builder.Keywords.INTERSECT_ALL;
+import static org.queryman.builder.Keywords.TO_STDOUT;
 import static org.queryman.builder.Keywords.UNION;
 import static org.queryman.builder.Keywords.UNION_ALL;
 import static org.queryman.builder.Queryman.asList;
 import static org.queryman.builder.Queryman.asName;
 import static org.queryman.builder.Queryman.condition;
 import static org.queryman.builder.Queryman.conditionExists;
+import static org.queryman.builder.Queryman.nodeMetadata;
 import static org.queryman.builder.Queryman.operator;
 import static org.queryman.builder.ast.NodesMetadata.EMPTY;
+import static org.queryman.builder.ast.NodesMetadata.EMPTY_GROUPED;
 import static org.queryman.builder.ast.NodesMetadata.ON;
 import static org.queryman.builder.ast.NodesMetadata.SELECT;
 import static org.queryman.builder.ast.NodesMetadata.SELECT_ALL;
@@ -301,6 +314,31 @@ public class SelectImpl extends AbstractQuery implements
         return this;
     }
 
+    @Override
+    public final SelectImpl where(String column, String operator, int value) {
+        return where(condition(column, operator, value));
+    }
+
+    @Override
+    public final SelectImpl where(String column, String operator, long value) {
+        return where(condition(column, operator, value));
+    }
+
+    @Override
+    public final SelectImpl where(String column, String operator, short value) {
+        return where(condition(column, operator, value));
+    }
+
+    @Override
+    public final SelectImpl where(String column, String operator, byte value) {
+        return where(condition(column, operator, value));
+    }
+
+    @Override
+    public final SelectImpl where(String column, String operator, char value) {
+        return where(condition(column, operator, value));
+    }
+
     @Override
     public final SelectImpl where(Conditions conditions) {
         resetToWhere();
@@ -732,4 +770,29 @@ public class SelectImpl extends AbstractQuery implements
         locks.peekLast().noWait();
         return this;
     }
+
+    @Override
+    public final long copyOut(Connection conn, OutputStream out, CopyFormat format) throws SQLException {
+        AbstractSyntaxTree tree = Queryman.getTree();
+
+        tree.startNode(nodeMetadata(COPY))
+           .startNode(EMPTY_GROUPED)
+           .peek(this)
+           .endNode();
+
+        tree.startNode(nodeMetadata(TO_STDOUT)).endNode();
+
+        tree.startNode(nodeMetadata(FORMAT).setParentheses(true))
+           .addLeaf(asName(format.getName()))
+           .endNode();
+
+        tree.endNode();
+
+        return JdbcCopy.copyOut(conn, TreeFormatterUtil.buildInlineSQL(tree), out);
+    }
+
+    @Override
+    public final long copyOut(Connection conn, WritableByteChannel channel, CopyFormat format) throws SQLException {
+        return copyOut(conn, Channels.newOutputStream(channel), format);
+    }
 }
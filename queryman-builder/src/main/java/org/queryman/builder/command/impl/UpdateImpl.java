@@ -146,6 +146,31 @@ public class UpdateImpl extends AbstractQuery implements
         return where(condition(left, operator, right));
     }
 
+    @Override
+    public final UpdateImpl where(String column, String operator, int value) {
+        return where(condition(column, operator, value));
+    }
+
+    @Override
+    public final UpdateImpl where(String column, String operator, long value) {
+        return where(condition(column, operator, value));
+    }
+
+    @Override
+    public final UpdateImpl where(String column, String operator, short value) {
+        return where(condition(column, operator, value));
+    }
+
+    @Override
+    public final UpdateImpl where(String column, String operator, byte value) {
+        return where(condition(column, operator, value));
+    }
+
+    @Override
+    public final UpdateImpl where(String column, String operator, char value) {
+        return where(condition(column, operator, value));
+    }
+
     @Override
     public final UpdateImpl where(Conditions conditions) {
         this.conditions = new ConditionsImpl(conditions);
@@ -9,8 +9,27 @@ package org.queryman.builder.command.insert;
 import org.queryman.builder.Query;
 import org.queryman.builder.ast.AstVisitor;
 
+import java.sql.Connection;
+import java.sql.SQLException;
+
 /**
  * @author Timur Shaidullin
  */
 public interface InsertFinalStep extends Query, AstVisitor {
+    /**
+     * Executes the insert, splitting the rows of VALUES into statements,
+     * those have no more than {@link org.queryman.builder.ast.Parameters#MAX_PARAMETERS}
+     * parameters. The statements of full chunks have an equal SQL, so it is
+     * rendered and prepared once.
+     *
+     * The statements are not wrapped into a transaction, it is up to the
+     * caller.
+     *
+     * @param conn connection
+     * @return number of inserted rows
+     *
+     * @throws SQLException may be thrown during execution a statement
+     * @throws IllegalStateException if a single row exceeds the limit of parameters
+     */
+    long executeInChunks(Connection conn) throws SQLException;
 }
@@ -9,7 +9,7 @@ package org.queryman.builder.command.insert;
 import org.queryman.builder.token.Expression;
 
 /**
- * INSERT INTO .. VALUES .. step.
+ * INSERT INTO .. VALUES .. step. Each call of {@code values} adds a row.
  *
  * @author Timur Shaidullin
  */
@@ -18,4 +18,15 @@ public interface InsertValuesStep extends InsertOnConflictStep {
     <T> InsertValuesStep values(T... values);
 
     InsertValuesStep values(Expression... values);
+
+    /**
+     * Adds a row for each element of {@code rows}. Each value of a row is
+     * converted by {@link org.queryman.builder.Queryman#asConstant(Object)}.
+     *
+     * @param rows rows of values
+     * @return insert values step
+     *
+     * @see InsertFinalStep#executeInChunks(java.sql.Connection)
+     */
+    InsertValuesStep valuesRows(Iterable<? extends Object[]> rows);
 }
@@ -7,6 +7,12 @@
 package org.queryman.builder.command.select;
 
 import org.queryman.builder.Query;
+import org.queryman.builder.ast.CopyFormat;
+
+import java.io.OutputStream;
+import java.nio.channels.WritableByteChannel;
+import java.sql.Connection;
+import java.sql.SQLException;
 
 /**
  *
@@ -14,4 +20,26 @@ import org.queryman.builder.Query;
  * @author Timur Shaidullin
  */
 public interface SelectFinalStep extends Query {
+    /**
+     * Exports the result of the select by {@code COPY (...) TO STDOUT}.
+     * The data are streamed straight into the {@code out}, the rows are not
+     * materialised as Java objects.
+     *
+     * {@code COPY} does not accept parameters, so the select is rendered
+     * with the values as literals.
+     *
+     * @param conn connection
+     * @param out output, it is not closed
+     * @param format format of data
+     * @return number of copied rows
+     *
+     * @throws SQLException if the copy fails
+     * @throws IllegalStateException if the select contains a named parameter
+     */
+    long copyOut(Connection conn, OutputStream out, CopyFormat format) throws SQLException;
+
+    /**
+     * @see #copyOut(Connection, OutputStream, CopyFormat)
+     */
+    long copyOut(Connection conn, WritableByteChannel channel, CopyFormat format) throws SQLException;
 }
@@ -34,6 +34,68 @@ public interface UpdateWhereFirstStep extends UpdateReturningStep {
      */
     <T> UpdateWhereManySteps where(T left, T operator, T right);
 
+    /**
+     * WHERE clause, those right operand is an integer constant kept without
+     * boxing.
+     *
+     * @param column column name
+     * @param operator operator
+     * @param value right operand
+     * @return where step
+     *
+     * @see Queryman#condition(String, String, int)
+     */
+    UpdateWhereManySteps where(String column, String operator, int value);
+
+    /**
+     * WHERE clause, those right operand is a bigint constant kept without
+     * boxing.
+     *
+     * @param column column name
+     * @param operator operator
+     * @param value right operand
+     * @return where step
+     *
+     * @see Queryman#condition(String, String, long)
+     */
+    UpdateWhereManySteps where(String column, String operator, long value);
+
+    /**
+     * WHERE clause, those right operand is a smallint constant.
+     *
+     * @param column column name
+     * @param operator operator
+     * @param value right operand
+     * @return where step
+     *
+     * @see Queryman#condition(String, String, short)
+     */
+    UpdateWhereManySteps where(String column, String operator, short value);
+
+    /**
+     * WHERE clause, those right operand is a byte constant.
+     *
+     * @param column column name
+     * @param operator operator
+     * @param value right operand
+     * @return where step
+     *
+     * @see Queryman#condition(String, String, byte)
+     */
+    UpdateWhereManySteps where(String column, String operator, byte value);
+
+    /**
+     * WHERE clause, those right operand is a string constant of a single character.
+     *
+     * @param column column name
+     * @param operator operator
+     * @param value right operand
+     * @return where step
+     *
+     * @see Queryman#condition(String, String, char)
+     */
+    UpdateWhereManySteps where(String column, String operator, char value);
+
     /**
      * This function useful in a few case:
      * <ul>
@@ -0,0 +1,189 @@
+/*
+ *  Queryman. Java tools for working with queries of PostgreSQL database.
+ *
+ *  License: MIT License
+ *  To see license follow by http://queryman.org/license.txt
+ */
+package org.queryman.builder.token;
+
+import org.queryman.builder.Queryman;
+import org.queryman.builder.token.expression.prepared.ArrayExpression;
+import org.queryman.builder.token.expression.prepared.BigDecimalExpression;
+import org.queryman.builder.token.expression.prepared.BooleanExpression;
+import org.queryman.builder.token.expression.prepared.ByteExpression;
+import org.queryman.builder.token.expression.prepared.BytesExpression;
+import org.queryman.builder.token.expression.prepared.DoubleExpression;
+import org.queryman.builder.token.expression.prepared.EnumExpression;
+import org.queryman.builder.token.expression.prepared.FloatExpression;
+import org.queryman.builder.token.expression.prepared.IntegerExpression;
+import org.queryman.builder.token.expression.prepared.LongExpression;
+import org.queryman.builder.token.expression.prepared.PrimitiveArrayExpression;
+import org.queryman.builder.token.expression.prepared.ShortExpression;
+import org.queryman.builder.token.expression.prepared.StringExpression;
+import org.queryman.builder.token.expression.prepared.TemporalExpression;
+import org.queryman.builder.token.expression.prepared.UUIDExpression;
+
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.ZoneOffset;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry of {@link ConstantFactory}s keyed by a class of constant, it is
+ * used by {@link Queryman#asConstant(Object)}. A factory of a class is
+ * resolved once through its superclasses, then its interfaces, and is
+ * cached by {@link ClassValue}, so creation a constant is a single lookup.
+ * An array of objects falls back to the factory of {@code Object[]}.
+ *
+ * Custom types, e.g. {@code Map} as JSONB, register their factories by
+ * {@link #register(Class, ConstantFactory)}, usually together with a binder
+ * of the created expression, see {@link org.queryman.builder.ast.JdbcBinders}.
+ *
+ * @author Timur Shaidullin
+ */
+public final class ConstantFactories {
+    private static final Map<Class<?>, ConstantFactory<?>> FACTORIES = new ConcurrentHashMap<>();
+
+    private static volatile ClassValue<ConstantFactory<?>> resolved = newResolver();
+
+    static {
+        register(String.class, StringExpression::new);
+        register(Character.class, c -> new StringExpression(String.valueOf(c)));
+        register(Boolean.class, BooleanExpression::new);
+        register(Integer.class, IntegerExpression::new);
+        register(Byte.class, ByteExpression::new);
+        register(Short.class, ShortExpression::new);
+        register(Long.class, LongExpression::new);
+        register(Double.class, DoubleExpression::new);
+        register(Float.class, FloatExpression::new);
+        register(BigDecimal.class, BigDecimalExpression::new);
+        register(UUID.class, UUIDExpression::new);
+        register(java.util.Date.class, d -> Queryman.asDate(new Date(d.getTime())));
+        register(Date.class, Queryman::asDate);
+        register(Time.class, Queryman::asTime);
+        register(Timestamp.class, Queryman::asTimestamp);
+        register(LocalDate.class, TemporalExpression::new);
+        register(LocalTime.class, TemporalExpression::new);
+        register(LocalDateTime.class, TemporalExpression::new);
+        register(OffsetTime.class, TemporalExpression::new);
+        register(OffsetDateTime.class, TemporalExpression::new);
+        register(Instant.class, i -> new TemporalExpression(i.atOffset(ZoneOffset.UTC)));
+        register(Enum.class, EnumExpression::new);
+        register(byte[].class, BytesExpression::new);
+        register(short[].class, PrimitiveArrayExpression::new);
+        register(int[].class, PrimitiveArrayExpression::new);
+        register(long[].class, PrimitiveArrayExpression::new);
+        register(float[].class, PrimitiveArrayExpression::new);
+        register(double[].class, PrimitiveArrayExpression::new);
+        register(Byte[].class, BytesExpression::new);
+        register(Object[].class, ArrayExpression::new);
+        register(InputStream.class, Queryman::asBinaryStream);
+        register(Expression.class, e -> e);
+    }
+
+    private ConstantFactories() {
+    }
+
+    /**
+     * Registers a factory for the {@code type} and its subtypes, those have
+     * no factory of their own. The previous factory of the {@code type} is
+     * replaced.
+     *
+     * @param type class of constant
+     * @param factory factory
+     */
+    public static <T> void register(Class<T> type, ConstantFactory<? super T> factory) {
+        Objects.requireNonNull(type);
+        Objects.requireNonNull(factory);
+
+        FACTORIES.put(type, factory);
+        resolved = newResolver();
+    }
+
+    /**
+     * Removes the factory of the {@code type}. Its subtypes fall back to
+     * the factories of their supertypes.
+     *
+     * @param type class of constant
+     */
+    public static void unregister(Class<?> type) {
+        Objects.requireNonNull(type);
+
+        FACTORIES.remove(type);
+        resolved = newResolver();
+    }
+
+    /**
+     * @param type class of constant
+     * @return factory of the {@code type} or of its nearest supertype, or
+     * {@code null} if there is no such factory
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> ConstantFactory<T> get(Class<T> type) {
+        return (ConstantFactory<T>) resolved.get(type);
+    }
+
+    /**
+     * Creates an expression of the {@code constant}.
+     *
+     * @param constant non-null constant
+     * @return expression
+     * @throws IllegalArgumentException if there is no factory of the constant type
+     */
+    @SuppressWarnings("unchecked")
+    public static Expression create(Object constant) {
+        ConstantFactory<Object> factory = (ConstantFactory<Object>) resolved.get(constant.getClass());
+
+        if (factory == null)
+            throw new IllegalArgumentException("Unsupported type " + constant.getClass().getCanonicalName());
+
+        return factory.create(constant);
+    }
+
+    private static ClassValue<ConstantFactory<?>> newResolver() {
+        return new ClassValue<ConstantFactory<?>>() {
+            @Override
+            protected ConstantFactory<?> computeValue(Class<?> type) {
+                for (Class<?> cl = type; cl != null; cl = cl.getSuperclass()) {
+                    ConstantFactory<?> factory = FACTORIES.get(cl);
+                    if (factory != null)
+                        return factory;
+                }
+
+                Deque<Class<?>> interfaces = new ArrayDeque<>();
+                for (Class<?> cl = type; cl != null; cl = cl.getSuperclass())
+                    Collections.addAll(interfaces, cl.getInterfaces());
+
+                while (!interfaces.isEmpty()) {
+                    Class<?> cl = interfaces.poll();
+
+                    ConstantFactory<?> factory = FACTORIES.get(cl);
+                    if (factory != null)
+                        return factory;
+
+                    Collections.addAll(interfaces, cl.getInterfaces());
+                }
+
+                if (type.isArray() && !type.getComponentType().isPrimitive())
+                    return FACTORIES.get(Object[].class);
+
+                return null;
+            }
+        };
+    }
+}
@@ -0,0 +1,23 @@
+/*
+ *  Queryman. Java tools for working with queries of PostgreSQL database.
+ *
+ *  License: MIT License
+ *  To see license follow by http://queryman.org/license.txt
+ */
+package org.queryman.builder.token;
+
+/**
+ * Creates an expression of a Java constant.
+ *
+ * @see ConstantFactories
+ *
+ * @author Timur Shaidullin
+ */
+@FunctionalInterface
+public interface ConstantFactory<T> {
+    /**
+     * @param constant non-null constant
+     * @return expression of the {@code constant}
+     */
+    Expression create(T constant);
+}
@@ -6,6 +6,8 @@
  */
 package org.queryman.builder.token;
 
+import org.queryman.builder.utils.StringUtils;
+
 /**
  * The expression is a main part of query. Queryman Builder provides expressions
  * showing in the list below:
@@ -39,24 +41,59 @@ public abstract class Expression extends AbstractToken
      */
     private String[] columns;
 
+    /**
+     * Rendered name and cast expression. They are dropped by
+     * {@link #cast(String)} and {@link #as(String)}.
+     */
+    private String renderedName;
+    private String castExpression;
+
     public Expression(String constant) {
         super(constant);
     }
 
     @Override
     public String getName() {
-        StringBuilder builder = new StringBuilder();
-        builder.append(prepareName());
+        String result = renderedName;
+        if (result != null)
+            return result;
 
-        builder.append(getCastExpression());
+        String cast = getCastExpression();
+        result = cast.isEmpty() ? String.valueOf(prepareName()) : prepareName() + cast;
 
-        return builder.toString();
+        if (isImmutable())
+            renderedName = result;
+
+        return result;
+    }
+
+    /**
+     * If it returns {@code true}, the {@link #getName()} is rendered once
+     * and it is cached until the expression is changed by {@code cast} or
+     * {@code as}. It is {@code false} for expressions, whose name depends
+     * on mutable objects, such as other expressions, queries or arrays.
+     *
+     * @return true if the name of expression is never changed by other objects
+     */
+    protected boolean isImmutable() {
+        return false;
     }
 
     /**
      * @return string with expression of explicitly casting
      */
     protected String getCastExpression() {
+        String result = castExpression;
+        if (result == null)
+            castExpression = result = buildCastExpression();
+
+        return result;
+    }
+
+    private String buildCastExpression() {
+        if (castType == null && outputName == null && columns == null)
+            return "";
+
         StringBuilder builder = new StringBuilder();
 
         if (castType != null)
@@ -89,12 +126,14 @@ public abstract class Expression extends AbstractToken
     @Override
     public final Expression cast(String type) {
         this.castType = type;
+        invalidate();
         return this;
     }
 
     @Override
     public final Expression as(String alias) {
         this.outputName = alias;
+        invalidate();
         return this;
     }
 
@@ -102,10 +141,15 @@ public abstract class Expression extends AbstractToken
     public final Expression as(String alias, String... columns) {
         as(alias);
 
-        this.columns = columns;
+        this.columns = columns.clone();
         return this;
     }
 
+    private void invalidate() {
+        renderedName = null;
+        castExpression = null;
+    }
+
     /**
      * Wrap the {@code name} into single quotes
      */
@@ -113,7 +157,7 @@ public abstract class Expression extends AbstractToken
         if (isEmpty())
             return "";
 
-        return "'" + name.replaceAll("'", "''") + "'";
+        return StringUtils.quoteLiteral(name);
     }
 
 
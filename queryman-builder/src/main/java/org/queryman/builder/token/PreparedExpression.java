@@ -6,6 +6,8 @@
  */
 package org.queryman.builder.token;
 
+import org.queryman.builder.ast.Parameters;
+
 import java.sql.Connection;
 import java.util.Map;
 
@@ -25,19 +27,81 @@ import java.util.Map;
 public abstract class PreparedExpression<T> extends Expression {
     protected T value;
 
+    /**
+     * Cached placeholder and the cast expression it is built from.
+     */
+    private String placeholder;
+    private String placeholderCast;
+
     public PreparedExpression(T constant) {
         super(String.valueOf(constant));
 
         value = constant;
     }
 
+    /**
+     * It is used by expressions, those keep a primitive value in a field
+     * of their own and render it only when it is needed. Neither the name,
+     * nor the {@link #value} is set.
+     */
+    protected PreparedExpression() {
+        super(null);
+    }
+
     /**
      * Returns a placeholder to use in SQL string.
      *
      * @return a placeholder
      */
     public String getPlaceholder() {
-        return "?" + getCastExpression();
+        String cast = getCastExpression();
+
+        if (cast != placeholderCast || placeholder == null) {
+            placeholder = cast.isEmpty() ? "?" : "?" + cast;
+            placeholderCast = cast;
+        }
+
+        return placeholder;
+    }
+
+    /**
+     * Returns a literal to use in SQL string of a statement, those does not
+     * accept parameters, such as {@code COPY}. The literal has the same type
+     * as the bound value, e.g. {@code '\x00ff'::bytea}.
+     *
+     * @return a literal
+     *
+     * @throws IllegalStateException if the expression has no literal
+     */
+    public String getLiteral() {
+        String literal = prepareLiteral();
+
+        return literal == null ? getName() : literal + getCastExpression();
+    }
+
+    /**
+     * @return a literal without the cast expression, or {@code null} if
+     * the name of expression is a literal already
+     */
+    protected String prepareLiteral() {
+        return null;
+    }
+
+    /**
+     * @return literal of the {@code expression}, if it is a prepared one,
+     * otherwise its name
+     */
+    protected static String literalOf(Expression expression) {
+        return expression instanceof PreparedExpression
+           ? ((PreparedExpression) expression).getLiteral()
+           : expression.getName();
+    }
+
+    /**
+     * @return true if the {@code expression} has neither a cast nor an alias
+     */
+    protected static boolean isPlain(Expression expression) {
+        return expression.getCastExpression().isEmpty();
     }
 
     /**
@@ -46,4 +110,27 @@ public abstract class PreparedExpression<T> extends Expression {
     public abstract T getValue();
 
     public abstract void bind(Map<Integer, PreparedExpression> map);
+
+    /**
+     * Appends this expression to {@code parameters}. A composite expression
+     * appends the prepared expressions it contains instead.
+     *
+     * @param parameters parameters of a prepared statement
+     */
+    public void bind(Parameters parameters) {
+        parameters.add(this);
+    }
+
+    /**
+     * Appends this expression to {@code parameters} and returns its
+     * placeholder. It is overridden by an expression, those placeholder
+     * depends on the preceding parameters.
+     *
+     * @param parameters parameters of a prepared statement
+     * @return a placeholder
+     */
+    public String bindPlaceholder(Parameters parameters) {
+        bind(parameters);
+        return getPlaceholder();
+    }
 }
\ No newline at end of file
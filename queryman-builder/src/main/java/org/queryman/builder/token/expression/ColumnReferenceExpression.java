@@ -7,12 +7,7 @@
 package org.queryman.builder.token.expression;
 
 import org.queryman.builder.token.Expression;
-
-import java.util.Arrays;
-import java.util.List;
-import java.util.stream.Collectors;
-
-import static org.queryman.builder.utils.Tools.EMPTY_STRING;
+import org.queryman.builder.utils.StringUtils;
 
 /**
  * Represent a qualified name. Usual it is an either column or table reference.
@@ -41,6 +36,11 @@ public class ColumnReferenceExpression extends Expression {
         this.quoted = quoted;
     }
 
+    @Override
+    protected boolean isImmutable() {
+        return true;
+    }
+
     /**
      * @return a qualified name. e.g. table.column
      */
@@ -50,16 +50,17 @@ public class ColumnReferenceExpression extends Expression {
             return null;
         }
 
-        String[] parts = name.split("\\.");
+        if (quoted)
+            return StringUtils.quoteQualifiedIdentifier(name);
 
-        if (quoted) {
-            List<String> collect = Arrays.stream(parts)
-               .map(part -> "\"" + part + "\"")
-               .collect(Collectors.toList());
+        // trailing dots are dropped, as String#split does
+        int end = name.length();
+        while (end > 0 && name.charAt(end - 1) == '.')
+            end--;
 
-            return String.join(".", collect.toArray(EMPTY_STRING));
-        }
+        if (end == 0)
+            return "";
 
-        return String.join(".", parts);
+        return name.substring(0, end);
     }
 }
@@ -6,6 +6,7 @@
  */
 package org.queryman.builder.token.expression;
 
+import org.queryman.builder.ast.Parameters;
 import org.queryman.builder.token.Expression;
 import org.queryman.builder.token.PreparedExpression;
 import org.queryman.builder.utils.StringUtils;
@@ -13,6 +14,7 @@ import org.queryman.builder.utils.StringUtils;
 import java.util.Arrays;
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.Function;
 
 /**
  * @author Timur Shaidullin
@@ -38,7 +40,7 @@ public class FuncExpression extends PreparedExpression {
             return null;
         }
 
-        return buildExpression(false);
+        return buildExpression(Expression::getName);
     }
 
     @Override
@@ -47,20 +49,28 @@ public class FuncExpression extends PreparedExpression {
             return null;
         }
 
-        return buildExpression(true) + getCastExpression();
+        return buildExpression(v -> v instanceof PreparedExpression
+           ? ((PreparedExpression) v).getPlaceholder()
+           : v.getName()
+        ) + getCastExpression();
     }
 
-    private String buildExpression(boolean isPrepared) {
+    @Override
+    protected String prepareLiteral() {
+        if (StringUtils.isEmpty(name)) {
+            return null;
+        }
+
+        return buildExpression(PreparedExpression::literalOf);
+    }
+
+    private String buildExpression(Function<Expression, String> render) {
         boolean notNeedParentheses = Arrays.stream(expressions)
            .filter(v -> v instanceof SubQueryExpression || v instanceof ListExpression)
            .count() == 1;
 
         String[] expr = Arrays.stream(expressions)
-           .map(v -> {
-               if (isPrepared && v instanceof PreparedExpression)
-                   return ((PreparedExpression) v).getPlaceholder();
-               return  v.getName();
-           })
+           .map(render)
            .toArray(String[]::new);
 
         String result = String.join(", ", expr);
@@ -92,4 +102,11 @@ public class FuncExpression extends PreparedExpression {
            .filter(v -> v instanceof PreparedExpression)
            .forEach(p -> ((PreparedExpression) p).bind(map));
     }
+
+    @Override
+    public void bind(Parameters parameters) {
+        for (Expression v : expressions)
+            if (v instanceof PreparedExpression)
+                ((PreparedExpression) v).bind(parameters);
+    }
 }
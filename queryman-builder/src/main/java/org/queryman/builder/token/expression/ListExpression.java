@@ -6,8 +6,10 @@
  */
 package org.queryman.builder.token.expression;
 
+import org.queryman.builder.ast.Parameters;
 import org.queryman.builder.token.Expression;
 import org.queryman.builder.token.PreparedExpression;
+import org.queryman.builder.token.expression.prepared.ListArrayExpression;
 
 import java.util.Arrays;
 import java.util.Map;
@@ -24,6 +26,12 @@ import static org.queryman.builder.utils.ArrayUtils.toExpressions;
  * @author Timur Shaidullin
  */
 public class ListExpression<T> extends PreparedExpression {
+    /**
+     * The smallest size of a padded list.
+     *
+     * @see #padded()
+     */
+    public static final int MIN_BUCKET_SIZE = 8;
 
     /**
      * Contains a variables for ARRAY and LIST expressions.
@@ -75,6 +83,97 @@ public class ListExpression<T> extends PreparedExpression {
         return "(" + String.join(", ", result) + ")";
     }
 
+    @Override
+    protected String prepareLiteral() {
+        if (arr == null)
+            return "()";
+
+        String[] result = new String[arr.length];
+
+        for (int i = 0; i < arr.length; i++) {
+            result[i] = literalOf(arr[i]);
+        }
+
+        return "(" + String.join(", ", result) + ")";
+    }
+
+    /**
+     * @return number of elements
+     */
+    public int size() {
+        return arr == null ? 0 : arr.length;
+    }
+
+    /**
+     * Pads the list up to the next power of two, but not less than
+     * {@link #MIN_BUCKET_SIZE}, by repeating its last element. Thus lists of
+     * different sizes share a few shapes of the prepared SQL, so the
+     * prepared statements are reused by the server. The padding does not
+     * change a result of {@code IN} and {@code NOT IN}.
+     *
+     * Only a list of constants is padded. An element, such as a function or
+     * a sub query, may be volatile or expensive, so it is not repeated.
+     *
+     * @return padded list or this list if it is empty, its size is
+     * a bucket size already or it contains an element, those is not
+     * a constant
+     *
+     * @see #bucketSize(int)
+     */
+    public ListExpression<T> padded() {
+        int size   = size();
+        int bucket = bucketSize(size);
+
+        if (size == 0 || size == bucket)
+            return this;
+
+        for (Expression v : arr)
+            if (!isConstant(v))
+                return this;
+
+        Expression[] padded = Arrays.copyOf(arr, bucket);
+        Arrays.fill(padded, size, bucket, arr[size - 1]);
+
+        ListExpression<T> list = new ListExpression<>("");
+        list.arr = padded;
+
+        return list;
+    }
+
+    /**
+     * @return true if the {@code expression} is a prepared constant or
+     * a parameter
+     */
+    private static boolean isConstant(Expression expression) {
+        return expression instanceof PreparedExpression
+           && !(expression instanceof FuncExpression)
+           && !(expression instanceof SubQueryExpression)
+           && !(expression instanceof ListExpression);
+    }
+
+    /**
+     * @return the next power of two, those is greater than or equal to
+     * the {@code size}, but not less than {@link #MIN_BUCKET_SIZE}
+     */
+    public static int bucketSize(int size) {
+        if (size <= MIN_BUCKET_SIZE)
+            return MIN_BUCKET_SIZE;
+
+        return Integer.highestOneBit(size - 1) << 1;
+    }
+
+    /**
+     * Converts the list to an array, those is bound as a single parameter.
+     *
+     * @return array expression or {@code null} if the elements are not
+     * constants of the same type
+     *
+     * @see ListArrayExpression#of(Expression[])
+     */
+    public ListArrayExpression toArrayExpression() {
+        return ListArrayExpression.of(arr);
+    }
+
     @Override
     public Object getValue() {
         // Method must not be called because it contains list of other
@@ -92,4 +191,14 @@ public class ListExpression<T> extends PreparedExpression {
                map.put(map.size() + 1, v);
            });
     }
+
+    @Override
+    public void bind(Parameters parameters) {
+        if (arr == null)
+            return;
+
+        for (Expression v : arr)
+            if (v instanceof PreparedExpression)
+                parameters.add((PreparedExpression) v);
+    }
 }
@@ -19,6 +19,11 @@ public class NullExpression extends Expression {
         super("NULL");
     }
 
+    @Override
+    protected boolean isImmutable() {
+        return true;
+    }
+
     @Override
     protected String prepareName() {
         return name;
@@ -8,12 +8,14 @@ package org.queryman.builder.token.expression;
 
 import org.queryman.builder.Query;
 import org.queryman.builder.ast.AbstractSyntaxTree;
+import org.queryman.builder.ast.Parameters;
 import org.queryman.builder.token.Expression;
 import org.queryman.builder.token.PreparedExpression;
 
 import java.util.Map;
 
 import static org.queryman.builder.Queryman.getTree;
+import static org.queryman.builder.ast.TreeFormatterUtil.buildInlineSQL;
 import static org.queryman.builder.ast.TreeFormatterUtil.buildPreparedParameters;
 import static org.queryman.builder.ast.TreeFormatterUtil.buildPreparedSQL;
 
@@ -56,6 +58,11 @@ public class SubQueryExpression<T> extends PreparedExpression {
         return "(" + buildPreparedSQL(query) + ")" + getCastExpression();
     }
 
+    @Override
+    protected String prepareLiteral() {
+        return "(" + buildInlineSQL(query) + ")";
+    }
+
     @Override
     public Object getValue() {
         // Method must not be called because it contains list of other
@@ -73,4 +80,12 @@ public class SubQueryExpression<T> extends PreparedExpression {
                map.put(map.size() + 1, v);
            });
     }
+
+    @Override
+    public void bind(Parameters parameters) {
+        Parameters params = buildPreparedParameters(query);
+
+        for (int i = 1; i <= params.size(); i++)
+            parameters.add(params.get(i));
+    }
 }
@@ -54,6 +54,18 @@ public class ArrayExpression<T> extends PreparedExpression {
         return "ARRAY[" + String.join(", ", result) + "]";
     }
 
+    @Override
+    protected String prepareLiteral() {
+        if (values == null)
+            return "NULL";
+
+        String[] result = Arrays.stream(values)
+           .map(v -> literalOf(toExpression(v)))
+           .toArray(String[]::new);
+
+        return "ARRAY[" + String.join(", ", result) + "]";
+    }
+
     @Override
     public Object[] getValue() {
         return values;
@@ -22,6 +22,11 @@ public class BigDecimalExpression extends PreparedExpression<BigDecimal> {
         super(constant);
     }
 
+    @Override
+    protected boolean isImmutable() {
+        return true;
+    }
+
     @Override
     protected String prepareName() {
         return name;
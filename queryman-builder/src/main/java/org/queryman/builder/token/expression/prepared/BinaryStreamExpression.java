@@ -0,0 +1,59 @@
+/*
+ *  Queryman. Java tools for working with queries of PostgreSQL database.
+ *
+ *  License: MIT License
+ *  To see license follow by http://queryman.org/license.txt
+ */
+package org.queryman.builder.token.expression.prepared;
+
+import org.queryman.builder.token.PreparedExpression;
+
+import java.io.InputStream;
+import java.util.Map;
+
+/**
+ * This class is representation of binary data read from a stream. The stream
+ * is bound by {@link java.sql.PreparedStatement#setBinaryStream(int, InputStream, long)},
+ * so a large payload is not loaded to the heap by the expression.
+ *
+ * The stream can be read once, so the expression can be used only in
+ * a prepared statement. Building a SQL string with it causes an exception.
+ *
+ * @author Timur Shaidullin
+ */
+public class BinaryStreamExpression extends PreparedExpression<InputStream> {
+    private final long length;
+
+    /**
+     * @param stream binary data
+     * @param length number of bytes in the stream, or {@code -1} if it is unknown
+     */
+    public BinaryStreamExpression(InputStream stream, long length) {
+        super(stream);
+
+        this.length = length;
+    }
+
+    @Override
+    protected String prepareName() {
+        throw new IllegalStateException("Binary stream can be bound to a prepared statement only");
+    }
+
+    @Override
+    public InputStream getValue() {
+        return value;
+    }
+
+    /**
+     * @return number of bytes in the stream, or {@code -1} if it is unknown
+     */
+    public long getLength() {
+        return length;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void bind(Map map) {
+        map.put(map.size() + 1, this);
+    }
+}
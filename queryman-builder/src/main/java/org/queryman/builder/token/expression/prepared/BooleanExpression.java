@@ -20,6 +20,11 @@ public class BooleanExpression extends PreparedExpression<Boolean> {
         super(constant);
     }
 
+    @Override
+    protected boolean isImmutable() {
+        return true;
+    }
+
     @Override
     protected String prepareName() {
         return name;
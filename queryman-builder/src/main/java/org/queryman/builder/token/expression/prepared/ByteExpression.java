@@ -20,6 +20,11 @@ public class ByteExpression extends PreparedExpression<Byte> {
         super(constant);
     }
 
+    @Override
+    protected boolean isImmutable() {
+        return true;
+    }
+
     @Override
     protected String prepareName() {
         return name;
@@ -6,34 +6,83 @@
  */
 package org.queryman.builder.token.expression.prepared;
 
-import org.queryman.builder.token.PreparedExpression;
+import org.queryman.builder.utils.ArrayUtils;
 
 /**
- * This is a ARRAY expressions. If you would use a prepared expression, see
- * {@link PreparedExpression}
- *
- * Commons use:
- * <code>
- *     // ARRAY[1, 2, 3 [,...]]
- *     Queryman.asArray(1, 2, 3);
- *  </code>
+ * This class is representation of binary data. The bytes are kept in
+ * a primitive array and are bound by {@link java.sql.PreparedStatement#setBytes(int, byte[])}
+ * as is.
  *
  * @author Timur Shaidullin
  */
 public class BytesExpression extends ArrayExpression<Byte> {
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
 
     /**
-     * Contains variables for ARRAY expressions.
+     * Contains bytes of the expression.
      */
-    private Byte[] values;
+    private final byte[] bytes;
 
     public BytesExpression(Byte[] constants) {
-        super(constants);
-        values = constants;
+        this(constants == null ? null : ArrayUtils.toPrimitive(constants));
+    }
+
+    /**
+     * The {@code bytes} are not copied.
+     *
+     * @param bytes binary data
+     */
+    public BytesExpression(byte[] bytes) {
+        super((Byte[]) null);
+        this.bytes = bytes;
+    }
+
+    /**
+     * @return an array of values e.g. ARRAY[1, 2 [,...]]
+     */
+    @Override
+    protected String prepareName() {
+        if (bytes == null)
+            return "ARRAY[]";
+
+        StringBuilder builder = new StringBuilder(bytes.length * 4 + 7).append("ARRAY[");
+        for (int i = 0; i < bytes.length; i++) {
+            if (i > 0)
+                builder.append(", ");
+
+            builder.append(bytes[i]);
+        }
+
+        return builder.append(']').toString();
     }
 
+    /**
+     * @return a bytea literal in hex format, e.g. '\x00ff'::bytea
+     */
+    @Override
+    protected String prepareLiteral() {
+        if (bytes == null)
+            return "NULL::bytea";
+
+        StringBuilder builder = new StringBuilder(bytes.length * 2 + 11).append("'\\x");
+        for (byte b : bytes)
+            builder.append(HEX[(b >> 4) & 0xF]).append(HEX[b & 0xF]);
+
+        return builder.append("'::bytea").toString();
+    }
+
+    /**
+     * @return bytes boxed to a new array, use {@link #getBytes()} to avoid it
+     */
     @Override
     public Byte[] getValue() {
-        return values;
+        return bytes == null ? null : ArrayUtils.toWrapper(bytes);
+    }
+
+    /**
+     * @return binary data
+     */
+    public byte[] getBytes() {
+        return bytes;
     }
 }
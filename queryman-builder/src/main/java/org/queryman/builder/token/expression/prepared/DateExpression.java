@@ -22,11 +22,21 @@ public class DateExpression extends PreparedExpression<Date> {
         super(constant);
     }
 
+    @Override
+    protected boolean isImmutable() {
+        return true;
+    }
+
     @Override
     protected String prepareName() {
         return String.format("'%s'", name);
     }
 
+    @Override
+    protected String prepareLiteral() {
+        return String.format("'%s'::date", name);
+    }
+
     @Override
     public Date getValue() {
         return value;
@@ -7,6 +7,7 @@
 package org.queryman.builder.token.expression.prepared;
 
 import org.queryman.builder.token.PreparedExpression;
+import org.queryman.builder.utils.StringUtils;
 
 import java.util.Map;
 
@@ -37,6 +38,11 @@ public class DollarStringExpression extends PreparedExpression<String> {
         this.tagName = tagName;
     }
 
+    @Override
+    protected boolean isImmutable() {
+        return true;
+    }
+
     /**
      * @return a string surrounded by dollar singes string. e.g. $$string$$ or
      * $tag$string$tag$
@@ -47,9 +53,7 @@ public class DollarStringExpression extends PreparedExpression<String> {
             return null;
         }
 
-        String tag = "$" + tagName +"$";
-
-        return tag + name + tag;
+        return StringUtils.dollarQuote(name, tagName);
     }
 
     @Override
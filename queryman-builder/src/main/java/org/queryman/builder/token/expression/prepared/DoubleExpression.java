@@ -11,23 +11,52 @@ import org.queryman.builder.token.PreparedExpression;
 import java.util.Map;
 
 /**
- * This class is representation of double constant.
+ * This class is representation of double constant. The value is kept as
+ * a primitive, it is boxed only by {@link #getValue()}, and it is rendered
+ * only if the expression is used in a SQL string.
  *
  * @author Timur Shaidullin
  */
 public class DoubleExpression extends PreparedExpression<Double> {
-    public DoubleExpression(Double constant) {
-        super(constant);
+    private final double constant;
+
+    public DoubleExpression(double constant) {
+        this.constant = constant;
+    }
+
+    @Override
+    protected boolean isImmutable() {
+        return true;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return false;
     }
 
     @Override
     protected String prepareName() {
-        return name;
+        return Double.toString(constant);
+    }
+
+    /**
+     * @return a quoted value, so NaN and Infinity are literals as well
+     */
+    @Override
+    protected String prepareLiteral() {
+        return "'" + constant + "'::double precision";
+    }
+
+    /**
+     * @return value without boxing
+     */
+    public double getDouble() {
+        return constant;
     }
 
     @Override
     public Double getValue() {
-        return value;
+        return constant;
     }
 
     @Override
@@ -0,0 +1,47 @@
+/*
+ *  Queryman. Java tools for working with queries of PostgreSQL database.
+ *
+ *  License: MIT License
+ *  To see license follow by http://queryman.org/license.txt
+ */
+package org.queryman.builder.token.expression.prepared;
+
+import org.queryman.builder.token.PreparedExpression;
+
+import java.util.Map;
+
+/**
+ * This class is representation of an enum constant. It is rendered as
+ * a string of the enum name, and it is bound as a value of unspecified
+ * type, so PostgreSQL casts it to the type of column, e.g. a PostgreSQL
+ * enum or text.
+ *
+ * @author Timur Shaidullin
+ */
+public class EnumExpression extends PreparedExpression<Enum<?>> {
+    public EnumExpression(Enum<?> constant) {
+        super(constant);
+        name = constant.name();
+    }
+
+    @Override
+    protected boolean isImmutable() {
+        return true;
+    }
+
+    @Override
+    protected String prepareName() {
+        return toPostgreSQLString(name);
+    }
+
+    @Override
+    public Enum<?> getValue() {
+        return value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void bind(Map map) {
+        map.put(map.size() + 1, this);
+    }
+}
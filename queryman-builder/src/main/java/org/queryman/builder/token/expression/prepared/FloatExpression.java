@@ -20,11 +20,24 @@ public class FloatExpression extends PreparedExpression<Float> {
         super(constant);
     }
 
+    @Override
+    protected boolean isImmutable() {
+        return true;
+    }
+
     @Override
     protected String prepareName() {
         return name;
     }
 
+    /**
+     * @return a quoted value, so NaN and Infinity are literals as well
+     */
+    @Override
+    protected String prepareLiteral() {
+        return value == null ? "NULL::real" : "'" + name + "'::real";
+    }
+
     @Override
     public Float getValue() {
         return value;
@@ -11,23 +11,44 @@ import org.queryman.builder.token.PreparedExpression;
 import java.util.Map;
 
 /**
- * This class is representation of integer constant.
+ * This class is representation of integer constant. The value is kept as
+ * a primitive, it is boxed only by {@link #getValue()}, and it is rendered
+ * only if the expression is used in a SQL string.
  *
  * @author Timur Shaidullin
  */
 public class IntegerExpression extends PreparedExpression<Integer> {
-    public IntegerExpression(Integer constant) {
-        super(constant);
+    private final int constant;
+
+    public IntegerExpression(int constant) {
+        this.constant = constant;
+    }
+
+    @Override
+    protected boolean isImmutable() {
+        return true;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return false;
     }
 
     @Override
     protected String prepareName() {
-        return name;
+        return Integer.toString(constant);
+    }
+
+    /**
+     * @return value without boxing
+     */
+    public int getInt() {
+        return constant;
     }
 
     @Override
     public Integer getValue() {
-        return value;
+        return constant;
     }
 
     @Override
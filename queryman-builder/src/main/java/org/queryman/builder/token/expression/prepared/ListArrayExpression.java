@@ -0,0 +1,174 @@
+/*
+ *  Queryman. Java tools for working with queries of PostgreSQL database.
+ *
+ *  License: MIT License
+ *  To see license follow by http://queryman.org/license.txt
+ */
+package org.queryman.builder.token.expression.prepared;
+
+import org.queryman.builder.token.Expression;
+import org.queryman.builder.token.PreparedExpression;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Array of constants of a list, those is bound as a single SQL array
+ * parameter. Inline it is rendered as {@code ARRAY[1, 2, 3]}.
+ *
+ * The integer, bigint and double constants are kept in a primitive array,
+ * the others are kept in an array of their value type, e.g. {@code String[]}.
+ *
+ * @see org.queryman.builder.token.expression.ListExpression#toArrayExpression()
+ *
+ * @author Timur Shaidullin
+ */
+public class ListArrayExpression extends PreparedExpression<Object> {
+    /**
+     * Constants of these types can be bound as an array.
+     */
+    private static final Set<Class<?>> SUPPORTED = Set.of(
+       BooleanExpression.class,
+       ShortExpression.class,
+       IntegerExpression.class,
+       LongExpression.class,
+       FloatExpression.class,
+       DoubleExpression.class,
+       BigDecimalExpression.class,
+       StringExpression.class,
+       DateExpression.class,
+       TimeExpression.class,
+       TimestampExpression.class,
+       UUIDExpression.class
+    );
+
+    private final Expression[] elements;
+    private final Class<?>     elementType;
+    private final Object       array;
+
+    private ListArrayExpression(Expression[] elements, Class<?> elementType, Object array) {
+        this.elements = elements;
+        this.elementType = elementType;
+        this.array = array;
+    }
+
+    /**
+     * Creates an array of the {@code elements}, if all of them are non-null
+     * constants of the same supported type. An element with a cast or an
+     * alias is not bound as an array, since the array would lose them.
+     *
+     * @param elements elements of list
+     * @return array expression or {@code null} if the elements cannot be
+     * bound as an array
+     */
+    public static ListArrayExpression of(Expression[] elements) {
+        if (elements == null || elements.length == 0)
+            return null;
+
+        Class<?> type = elements[0].getClass();
+        if (!SUPPORTED.contains(type))
+            return null;
+
+        for (Expression element : elements)
+            if (element.getClass() != type || !isPlain(element))
+                return null;
+
+        int length = elements.length;
+
+        if (type == IntegerExpression.class) {
+            int[] array = new int[length];
+            for (int i = 0; i < length; i++)
+                array[i] = ((IntegerExpression) elements[i]).getInt();
+
+            return new ListArrayExpression(elements, Integer.class, array);
+        }
+
+        if (type == LongExpression.class) {
+            long[] array = new long[length];
+            for (int i = 0; i < length; i++)
+                array[i] = ((LongExpression) elements[i]).getLong();
+
+            return new ListArrayExpression(elements, Long.class, array);
+        }
+
+        if (type == DoubleExpression.class) {
+            double[] array = new double[length];
+            for (int i = 0; i < length; i++)
+                array[i] = ((DoubleExpression) elements[i]).getDouble();
+
+            return new ListArrayExpression(elements, Double.class, array);
+        }
+
+        Object   first       = ((PreparedExpression) elements[0]).getValue();
+        Class<?> elementType = first.getClass();
+        Object[] array       = (Object[]) java.lang.reflect.Array.newInstance(elementType, length);
+
+        for (int i = 0; i < length; i++) {
+            Object value = ((PreparedExpression) elements[i]).getValue();
+            if (value == null || value.getClass() != elementType)
+                return null;
+
+            array[i] = value;
+        }
+
+        return new ListArrayExpression(elements, elementType, array);
+    }
+
+    @Override
+    protected String prepareName() {
+        StringBuilder builder = new StringBuilder("ARRAY[");
+
+        for (int i = 0; i < elements.length; i++) {
+            if (i > 0)
+                builder.append(", ");
+
+            builder.append(elements[i].getName());
+        }
+
+        return builder.append(']').toString();
+    }
+
+    @Override
+    protected String prepareLiteral() {
+        StringBuilder builder = new StringBuilder("ARRAY[");
+
+        for (int i = 0; i < elements.length; i++) {
+            if (i > 0)
+                builder.append(", ");
+
+            builder.append(literalOf(elements[i]));
+        }
+
+        return builder.append(']').toString();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return false;
+    }
+
+    /**
+     * @return type of elements, e.g. {@code Integer.class}
+     */
+    public Class<?> getElementType() {
+        return elementType;
+    }
+
+    /**
+     * @return a primitive array or an array of {@link #getElementType()}
+     */
+    public Object getArray() {
+        return array;
+    }
+
+    @Override
+    public Object getValue() {
+        return array;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void bind(Map map) {
+        map.put(map.size() + 1, this);
+    }
+}
@@ -11,23 +11,44 @@ import org.queryman.builder.token.PreparedExpression;
 import java.util.Map;
 
 /**
- * This class is representation of long constant.
+ * This class is representation of long constant. The value is kept as
+ * a primitive, it is boxed only by {@link #getValue()}, and it is rendered
+ * only if the expression is used in a SQL string.
  *
  * @author Timur Shaidullin
  */
 public class LongExpression extends PreparedExpression<Long> {
-    public LongExpression(Long constant) {
-        super(constant);
+    private final long constant;
+
+    public LongExpression(long constant) {
+        this.constant = constant;
+    }
+
+    @Override
+    protected boolean isImmutable() {
+        return true;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return false;
     }
 
     @Override
     protected String prepareName() {
-        return name;
+        return Long.toString(constant);
+    }
+
+    /**
+     * @return value without boxing
+     */
+    public long getLong() {
+        return constant;
     }
 
     @Override
     public Long getValue() {
-        return value;
+        return constant;
     }
 
     @Override
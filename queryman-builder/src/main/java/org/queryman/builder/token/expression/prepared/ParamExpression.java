@@ -0,0 +1,76 @@
+/*
+ *  Queryman. Java tools for working with queries of PostgreSQL database.
+ *
+ *  License: MIT License
+ *  To see license follow by http://queryman.org/license.txt
+ */
+package org.queryman.builder.token.expression.prepared;
+
+import org.queryman.builder.token.PreparedExpression;
+
+import java.util.Map;
+
+/**
+ * This class is representation of a named parameter slot. It has no value,
+ * the value is supplied each time the {@link org.queryman.builder.ast.QueryTemplate}
+ * is bound.
+ *
+ * Example:
+ * <code>
+ * :id
+ * </code>
+ *
+ * @author Timur Shaidullin
+ */
+public class ParamExpression extends PreparedExpression<Object> {
+    private final String paramName;
+
+    public ParamExpression(String paramName) {
+        super(null);
+
+        this.paramName = paramName;
+    }
+
+    /**
+     * @return name of the parameter
+     */
+    public String getParamName() {
+        return paramName;
+    }
+
+    /**
+     * @return always {@code null}, a parameter has no value until it is bound
+     */
+    @Override
+    public Object getValue() {
+        return null;
+    }
+
+    @Override
+    protected boolean isImmutable() {
+        return true;
+    }
+
+    /**
+     * @return a name prefixed by colon. e.g. :id
+     */
+    @Override
+    protected String prepareName() {
+        return ":" + paramName;
+    }
+
+    /**
+     * @throws IllegalStateException always, a parameter has no value
+     * until it is bound
+     */
+    @Override
+    public String getLiteral() {
+        throw new IllegalStateException("Parameter :" + paramName + " cannot be rendered as a literal");
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void bind(Map map) {
+        map.put(map.size() + 1, this);
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ *  Queryman. Java tools for working with queries of PostgreSQL database.
+ *
+ *  License: MIT License
+ *  To see license follow by http://queryman.org/license.txt
+ */
+package org.queryman.builder.token.expression.prepared;
+
+import java.lang.reflect.Array;
+
+/**
+ * This is an ARRAY expression backed by an array of primitives: {@code short[]},
+ * {@code int[]}, {@code long[]}, {@code float[]} or {@code double[]}. The array
+ * is kept as is, it is not boxed to build the expression.
+ *
+ * Example:
+ * <code>
+ * ARRAY[1, 2, 3]
+ * </code>
+ *
+ * @author Timur Shaidullin
+ */
+public class PrimitiveArrayExpression extends ArrayExpression<Object> {
+    private final Object array;
+    private final String typeName;
+
+    public PrimitiveArrayExpression(short[] array) {
+        this(array, "int2");
+    }
+
+    public PrimitiveArrayExpression(int[] array) {
+        this(array, "int4");
+    }
+
+    public PrimitiveArrayExpression(long[] array) {
+        this(array, "int8");
+    }
+
+    public PrimitiveArrayExpression(float[] array) {
+        this(array, "float4");
+    }
+
+    public PrimitiveArrayExpression(double[] array) {
+        this(array, "float8");
+    }
+
+    private PrimitiveArrayExpression(Object array, String typeName) {
+        super((Object[]) null);
+
+        this.array = array;
+        this.typeName = typeName;
+    }
+
+    /**
+     * @return an array of values e.g. ARRAY[1, 2 [,...]]
+     */
+    @Override
+    protected String prepareName() {
+        if (array == null)
+            return "ARRAY[]";
+
+        int length = Array.getLength(array);
+
+        StringBuilder builder = new StringBuilder(length * 4 + 7).append("ARRAY[");
+        for (int i = 0; i < length; i++) {
+            if (i > 0)
+                builder.append(", ");
+
+            if (array instanceof short[])
+                builder.append(((short[]) array)[i]);
+            else if (array instanceof int[])
+                builder.append(((int[]) array)[i]);
+            else if (array instanceof long[])
+                builder.append(((long[]) array)[i]);
+            else if (array instanceof float[])
+                builder.append(((float[]) array)[i]);
+            else
+                builder.append(((double[]) array)[i]);
+        }
+
+        return builder.append(']').toString();
+    }
+
+    /**
+     * @return an array literal cast to the element type,
+     * e.g. '{1, 2 [,...]}'::int4[]
+     */
+    @Override
+    protected String prepareLiteral() {
+        if (array == null)
+            return "NULL::" + typeName + "[]";
+
+        String name = prepareName();
+
+        return "'{" + name.substring(6, name.length() - 1) + "}'::" + typeName + "[]";
+    }
+
+    /**
+     * @return values boxed to a new array, use {@link #getArray()} to avoid it
+     */
+    @Override
+    public Object[] getValue() {
+        if (array == null)
+            return null;
+
+        Object[] values = new Object[Array.getLength(array)];
+        for (int i = 0; i < values.length; i++)
+            values[i] = Array.get(array, i);
+
+        return values;
+    }
+
+    /**
+     * @return array of primitives
+     */
+    public Object getArray() {
+        return array;
+    }
+
+    /**
+     * @return PostgreSQL name of element type, e.g. int4
+     */
+    public String getTypeName() {
+        return typeName;
+    }
+}
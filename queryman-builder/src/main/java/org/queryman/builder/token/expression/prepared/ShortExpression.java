@@ -20,6 +20,11 @@ public class ShortExpression extends PreparedExpression<Short> {
         super(constant);
     }
 
+    @Override
+    protected boolean isImmutable() {
+        return true;
+    }
+
     @Override
     protected String prepareName() {
         return name;
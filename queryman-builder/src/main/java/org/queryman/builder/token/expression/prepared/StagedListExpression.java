@@ -0,0 +1,120 @@
+/*
+ *  Queryman. Java tools for working with queries of PostgreSQL database.
+ *
+ *  License: MIT License
+ *  To see license follow by http://queryman.org/license.txt
+ */
+package org.queryman.builder.token.expression.prepared;
+
+import org.queryman.builder.ast.Parameters;
+import org.queryman.builder.token.Expression;
+import org.queryman.builder.token.PreparedExpression;
+import org.queryman.builder.token.expression.ListExpression;
+
+import java.util.Map;
+
+/**
+ * An {@code IN} or {@code NOT IN} condition with a huge list of constants,
+ * those is staged into a temporary table on the connection, right before
+ * a prepared statement is executed. In a SQL string it is rendered as
+ * the condition with the list, in a prepared SQL as a sub query of
+ * the table:
+ * <code>
+ * id IN (1, 2, 3 [,...])
+ * id IN (SELECT key FROM pg_temp.queryman_keys_int8)
+ * (id IS NOT NULL AND NOT EXISTS (SELECT 1 FROM pg_temp.queryman_keys_int8 k WHERE k.key = id))
+ * </code>
+ *
+ * {@code NOT IN} is rendered as {@code NOT EXISTS}, so PostgreSQL plans it
+ * as an anti join. The {@code IS NOT NULL} keeps the result of {@code NOT IN}
+ * for a {@code NULL} column.
+ *
+ * The table name depends only on the type of constants and on the number
+ * of staged lists of the same type, those precede the list in a statement.
+ * So the prepared SQL does not depend on the list.
+ *
+ * @see org.queryman.builder.cfg.Settings#IN_LIST_TEMP_TABLE_THRESHOLD
+ *
+ * @author Timur Shaidullin
+ */
+public final class StagedListExpression extends PreparedExpression<Object> {
+    private final Expression          column;
+    private final boolean             in;
+    private final ListExpression<?>   list;
+    private final ListArrayExpression keys;
+
+    /**
+     * @param column left operand of condition
+     * @param in {@code true} if it is {@code IN}, otherwise {@code NOT IN}
+     * @param list list of constants
+     * @param keys the same constants as an array
+     */
+    public StagedListExpression(Expression column, boolean in, ListExpression<?> list, ListArrayExpression keys) {
+        this.column = column;
+        this.in = in;
+        this.list = list;
+        this.keys = keys;
+    }
+
+    @Override
+    protected String prepareName() {
+        return column.getName() + (in ? " IN " : " NOT IN ") + list.getName();
+    }
+
+    @Override
+    protected String prepareLiteral() {
+        return literalOf(column) + (in ? " IN " : " NOT IN ") + list.getLiteral();
+    }
+
+    /**
+     * @return condition, where the list is the only staged one of its type
+     */
+    @Override
+    public String getPlaceholder() {
+        return bindPlaceholder(new Parameters(1));
+    }
+
+    /**
+     * Stages the list to {@code parameters}.
+     *
+     * @return condition with the sub query of the table, those is assigned
+     * to the list
+     */
+    @Override
+    public String bindPlaceholder(Parameters parameters) {
+        String table = "pg_temp." + parameters.stage(this);
+        String name  = column.getName();
+
+        if (in)
+            return name + " IN (SELECT key FROM " + table + ")";
+
+        return "(" + name + " IS NOT NULL AND NOT EXISTS (SELECT 1 FROM " + table + " k WHERE k.key = " + name + "))";
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return false;
+    }
+
+    /**
+     * @return constants to load into the table
+     */
+    public ListArrayExpression getKeys() {
+        return keys;
+    }
+
+    @Override
+    public Object getValue() {
+        return keys.getArray();
+    }
+
+    @Override
+    public void bind(Map map) {
+        // the keys are staged, not bound
+    }
+
+    @Override
+    public void bind(Parameters parameters) {
+        parameters.stage(this);
+    }
+}
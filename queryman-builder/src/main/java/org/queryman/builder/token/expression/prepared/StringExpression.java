@@ -32,6 +32,11 @@ public class StringExpression extends PreparedExpression<String> {
         return name;
     }
 
+    @Override
+    protected boolean isImmutable() {
+        return true;
+    }
+
     /**
      * @return a string surrounded by single quote string. e.g. 'string'
      */
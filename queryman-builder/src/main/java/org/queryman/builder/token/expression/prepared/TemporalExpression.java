@@ -0,0 +1,76 @@
+/*
+ *  Queryman. Java tools for working with queries of PostgreSQL database.
+ *
+ *  License: MIT License
+ *  To see license follow by http://queryman.org/license.txt
+ */
+package org.queryman.builder.token.expression.prepared;
+
+import org.queryman.builder.token.PreparedExpression;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.temporal.Temporal;
+import java.util.Map;
+
+/**
+ * This class is representation of a java.time constant, such as
+ * {@link java.time.LocalDate} or {@link java.time.OffsetDateTime}.
+ * It is bound by {@link java.sql.PreparedStatement#setObject(int, Object)}.
+ *
+ * @author Timur Shaidullin
+ */
+public class TemporalExpression extends PreparedExpression<Temporal> {
+    public TemporalExpression(Temporal constant) {
+        super(constant);
+    }
+
+    @Override
+    protected boolean isImmutable() {
+        return true;
+    }
+
+    @Override
+    protected String prepareName() {
+        return String.format("'%s'", name);
+    }
+
+    /**
+     * @return a quoted value cast to the type, those corresponds to
+     * the class of value, e.g. '2019-01-01T10:00'::timestamp
+     */
+    @Override
+    protected String prepareLiteral() {
+        String type;
+
+        if (value instanceof LocalDate)
+            type = "date";
+        else if (value instanceof LocalTime)
+            type = "time";
+        else if (value instanceof LocalDateTime)
+            type = "timestamp";
+        else if (value instanceof OffsetTime)
+            type = "timetz";
+        else if (value instanceof OffsetDateTime || value instanceof Instant)
+            type = "timestamptz";
+        else
+            return null;
+
+        return String.format("'%s'::%s", name, type);
+    }
+
+    @Override
+    public Temporal getValue() {
+        return value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void bind(Map map) {
+        map.put(map.size() + 1, this);
+    }
+}
@@ -22,11 +22,21 @@ public class TimeExpression extends PreparedExpression<Time> {
         super(constant);
     }
 
+    @Override
+    protected boolean isImmutable() {
+        return true;
+    }
+
     @Override
     protected String prepareName() {
         return String.format("'%s'", name);
     }
 
+    @Override
+    protected String prepareLiteral() {
+        return String.format("'%s'::time", name);
+    }
+
     @Override
     public Time getValue() {
         return value;
@@ -22,11 +22,21 @@ public class TimestampExpression extends PreparedExpression<Timestamp> {
         super(constant);
     }
 
+    @Override
+    protected boolean isImmutable() {
+        return true;
+    }
+
     @Override
     protected String prepareName() {
         return String.format("'%s'", name);
     }
 
+    @Override
+    protected String prepareLiteral() {
+        return String.format("'%s'::timestamp", name);
+    }
+
     @Override
     public Timestamp getValue() {
         return value;
@@ -21,11 +21,21 @@ public class UUIDExpression extends PreparedExpression<UUID> {
         super(constant);
     }
 
+    @Override
+    protected boolean isImmutable() {
+        return true;
+    }
+
     @Override
     protected String prepareName() {
         return String.format("'%s'", name);
     }
 
+    @Override
+    protected String prepareLiteral() {
+        return String.format("'%s'::uuid", name);
+    }
+
     @Override
     public UUID getValue() {
         return value;
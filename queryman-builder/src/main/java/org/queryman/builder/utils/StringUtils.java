@@ -8,6 +8,7 @@ package org.queryman.builder.utils;
 
 import org.queryman.builder.token.Token;
 
+import java.util.BitSet;
 import java.util.Objects;
 
 /**
@@ -21,4 +22,140 @@ public class StringUtils {
     public static boolean isEmpty(Token token) {
         return token == null || isEmpty(token.getName());
     }
+
+    /**
+     * Surrounds the {@code string} by single quotes, doubling the single
+     * quotes inside it.
+     *
+     * @param string string
+     * @return string literal, e.g. {@code 'it''s'}
+     */
+    public static String quoteLiteral(String string) {
+        return quote(string, '\'');
+    }
+
+    /**
+     * Quotes each part of a qualified name separated by dots. Trailing dots
+     * are dropped.
+     *
+     * @param name qualified name, e.g. {@code public.book}
+     * @return quoted name, e.g. {@code "public"."book"}
+     */
+    public static String quoteQualifiedIdentifier(String name) {
+        int end = name.length();
+        while (end > 0 && name.charAt(end - 1) == '.')
+            end--;
+
+        if (end == 0)
+            return "";
+
+        StringBuilder builder = new StringBuilder(end + 8).append('"');
+        for (int i = 0; i < end; i++) {
+            char c = name.charAt(i);
+
+            if (c == '.')
+                builder.append("\".\"");
+            else if (c == '"')
+                builder.append("\"\"");
+            else
+                builder.append(c);
+        }
+
+        return builder.append('"').toString();
+    }
+
+    /**
+     * Surrounds the {@code string} by dollar quotes with the {@code tag}.
+     * If the closing quote is found earlier than at the end of string, that
+     * is the string contains it or the end of string and the quote overlap,
+     * such as {@code a$} and {@code $$}, a digit suffix is added to the tag.
+     * The suffix is the least one, those is not used by the string.
+     *
+     * The string is scanned once for the occurrences of {@code $tag}. Since
+     * a tag contains no {@code $}, the quote {@code $x$} is found too early
+     * only if the string contains {@code $x$} or ends with {@code $x}.
+     *
+     * @param string string
+     * @param tag tag, it may be empty
+     * @return dollar-quoted string, e.g. {@code $tag$it's$tag$}
+     */
+    public static String dollarQuote(String string, String tag) {
+        String prefix = "$" + tag;
+        int    length = string.length();
+        int    from   = string.indexOf(prefix);
+
+        if (from < 0)
+            return prefix + "$" + string + prefix + "$";
+
+        boolean plain = false;
+        BitSet  used  = null;
+
+        for (; from >= 0; from = string.indexOf(prefix, from + 1)) {
+            int end = from + prefix.length();
+
+            if (end == length || string.charAt(end) == '$') {
+                plain = true;
+            } else if (string.charAt(end) == '_') {
+                int suffix = suffix(string, end + 1);
+
+                if (suffix >= 0) {
+                    if (used == null)
+                        used = new BitSet();
+
+                    used.set(suffix);
+                }
+            }
+        }
+
+        if (!plain)
+            return prefix + "$" + string + prefix + "$";
+
+        String quote = prefix + "_" + (used == null ? 0 : used.nextClearBit(0)) + "$";
+
+        return quote + string + quote;
+    }
+
+    /**
+     * @return number, those is written from the {@code start} up to a dollar
+     * or the end of {@code string}, or {@code -1} if there is no such number
+     */
+    private static int suffix(String string, int start) {
+        int end = start;
+        while (end < string.length() && end - start < 9 && string.charAt(end) >= '0' && string.charAt(end) <= '9')
+            end++;
+
+        if (end == start || (end < string.length() && string.charAt(end) != '$'))
+            return -1;
+
+        // a leading zero makes a distinct tag, e.g. $t_01$ is not $t_1$
+        if (string.charAt(start) == '0' && end - start > 1)
+            return -1;
+
+        return Integer.parseInt(string, start, end, 10);
+    }
+
+    /**
+     * Doubles the {@code quote} characters in the {@code string}, and
+     * surrounds it by them. A string without quotes is not copied before
+     * concatenation.
+     */
+    private static String quote(String string, char quote) {
+        int first = string.indexOf(quote);
+        if (first < 0)
+            return quote + string + quote;
+
+        StringBuilder builder = new StringBuilder(string.length() + 8)
+           .append(quote)
+           .append(string, 0, first);
+
+        for (int i = first; i < string.length(); i++) {
+            char c = string.charAt(i);
+            if (c == quote)
+                builder.append(quote);
+
+            builder.append(c);
+        }
+
+        return builder.append(quote).toString();
+    }
 }
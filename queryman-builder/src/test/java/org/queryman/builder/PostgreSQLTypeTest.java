@@ -10,14 +10,24 @@ import org.junit.jupiter.api.Test;
 import org.queryman.builder.command.insert.InsertFinalStep;
 import org.queryman.builder.utils.ArrayUtils;
 
+import java.io.ByteArrayInputStream;
 import java.sql.Date;
 import java.sql.SQLException;
 import java.sql.Time;
 import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.queryman.builder.Queryman.asBinaryStream;
 import static org.queryman.builder.Queryman.asConstant;
 import static org.queryman.builder.Queryman.asName;
 import static org.queryman.builder.Queryman.insertInto;
@@ -219,4 +229,73 @@ public class PostgreSQLTypeTest extends BaseTest {
             assertArrayEquals(ArrayUtils.toWrapper(arr), (Integer[]) rs.getArray("arr_int").getArray());
         });
     }
+
+    @Test
+    void primitiveArrays() throws SQLException {
+        long[]   longs   = { 1, 2, Long.MAX_VALUE };
+        double[] doubles = { 1.5, -2 };
+        float[]  floats  = { 0.5f };
+        short[]  shorts  = { 1, 2 };
+
+        Query query = select(asConstant(longs), asConstant(doubles), asConstant(floats), asConstant(shorts));
+
+        inStatement(query, rs -> {
+            assertArrayEquals(ArrayUtils.toWrapper(longs), (Long[]) rs.getArray(1).getArray());
+            assertArrayEquals(ArrayUtils.toWrapper(doubles), (Double[]) rs.getArray(2).getArray());
+            assertArrayEquals(ArrayUtils.toWrapper(floats), (Float[]) rs.getArray(3).getArray());
+            // depending on the driver version int2[] is read as Short[] or Integer[]
+            Object[] values = (Object[]) rs.getArray(4).getArray();
+            assertArrayEquals(new int[]{ 1, 2 }, Arrays.stream(values).mapToInt(v -> ((Number) v).intValue()).toArray());
+            assertEquals("int2", rs.getArray(4).getBaseTypeName());
+        });
+    }
+
+    @Test
+    void binaryData() throws SQLException {
+        byte[] bytes = new byte[1 << 16];
+        for (int i = 0; i < bytes.length; i++)
+            bytes[i] = (byte) i;
+
+        inStatement(insertInto("types").columns("bytea").values(bytes).returning("bytea"), rs -> {
+            assertArrayEquals(bytes, rs.getBytes(1));
+        });
+
+        inStatement(insertInto("types").columns("bytea").values(asBinaryStream(new ByteArrayInputStream(bytes), bytes.length)).returning("bytea"), rs -> {
+            assertArrayEquals(bytes, rs.getBytes(1));
+        });
+
+        inStatement(insertInto("types").columns("bytea").values(new ByteArrayInputStream(bytes)).returning("bytea"), rs -> {
+            assertArrayEquals(bytes, rs.getBytes(1));
+        });
+    }
+
+    @Test
+    void javaTime() throws SQLException {
+        LocalDate      date     = LocalDate.of(2018, 5, 20);
+        LocalTime      time     = LocalTime.of(10, 15, 30);
+        LocalDateTime  dateTime = LocalDateTime.of(date, time);
+        OffsetDateTime offset   = OffsetDateTime.of(dateTime, ZoneOffset.UTC);
+        Instant        instant  = offset.toInstant();
+
+        Query query = select(asConstant(date), asConstant(time), asConstant(dateTime), asConstant(offset), asConstant(instant));
+        assertEquals("SELECT '2018-05-20', '10:15:30', '2018-05-20T10:15:30', '2018-05-20T10:15:30Z', '2018-05-20T10:15:30Z'", query.sql());
+
+        inStatement(query, rs -> {
+            assertEquals(date, rs.getObject(1, LocalDate.class));
+            assertEquals(time, rs.getObject(2, LocalTime.class));
+            assertEquals(dateTime, rs.getObject(3, LocalDateTime.class));
+            assertEquals(instant, rs.getObject(4, OffsetDateTime.class).toInstant());
+            assertEquals(instant, rs.getObject(5, OffsetDateTime.class).toInstant());
+        });
+    }
+
+    @Test
+    void enumConstant() throws SQLException {
+        Query query = select(asConstant(TimeUnit.SECONDS).cast("text"));
+        assertEquals("SELECT 'SECONDS'::text", query.sql());
+
+        inStatement(query, rs -> {
+            assertEquals("SECONDS", rs.getString(1));
+        });
+    }
 }
@@ -0,0 +1,210 @@
+package org.queryman.builder.ast;
+
+import org.junit.jupiter.api.Test;
+import org.queryman.builder.Query;
+import org.queryman.builder.Queryman;
+import org.queryman.builder.boot.ServiceRegister;
+import org.queryman.builder.cfg.Settings;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.queryman.builder.Operators.EQUAL;
+import static org.queryman.builder.Operators.IN;
+import static org.queryman.builder.Queryman.asConstant;
+import static org.queryman.builder.Queryman.asName;
+import static org.queryman.builder.Queryman.asOperator;
+import static org.queryman.builder.Queryman.conditionBetween;
+import static org.queryman.builder.Queryman.deleteFrom;
+import static org.queryman.builder.Queryman.insertInto;
+import static org.queryman.builder.Queryman.operator;
+import static org.queryman.builder.Queryman.select;
+import static org.queryman.builder.Queryman.update;
+
+/**
+ * Guards the bytes allocated per {@code sql()} call of the queries, those
+ * are taken from the examples of documentation. The baselines are kept in
+ * {@code allocation-budget.properties}; a query may allocate up to
+ * {@link #TOLERANCE} more than its baseline.
+ *
+ * When a change reduces the allocations, lower the baselines to the
+ * measured values, those are printed by the failed assertion.
+ */
+class AllocationBudgetTest {
+    private static final double TOLERANCE = 1.1;
+    private static final int    WARM_UP   = 20_000;
+    private static final int    BATCHES   = 20;
+    private static final int    CALLS     = 500;
+
+    private static Map<String, Query> queries() {
+        Map<String, Query> queries = new LinkedHashMap<>();
+
+        queries.put("simple-select", select("id", "name")
+           .from("book", "author")
+           .where("id", "=", "2")
+           .orderBy("year"));
+
+        queries.put("simple-select2", select("id", "name")
+           .from("book")
+           .innerJoin(asName("author").as("a"))
+           .on("a.id", "=", "author_id")
+           .where("author_id", "=", "2")
+           .orderBy("author_id.year")
+           .limit(25)
+           .offset(10));
+
+        queries.put("select-prepare", select("*")
+           .from("book")
+           .where(asName("author_id"), EQUAL, asConstant(10)));
+
+        queries.put("select-group2", select("id", "name")
+           .from("book")
+           .groupBy(asOperator("ROLLUP", "id", "name"), asOperator("CUBE", "id", "name")));
+
+        queries.put("select-where-query", select("*")
+           .from("book")
+           .where("year", ">", "2010")
+           .and(asName("author_id"), IN, select("id").from("authors")));
+
+        queries.put("select-where-complex", select("*")
+           .from("book")
+           .where("year", ">", "2010")
+           .and(
+              conditionBetween("id", "1", "10")
+                 .and(asName("name"), operator("="), asConstant("Advanced SQL"))
+           ));
+
+        queries.put("simple-insert", insertInto("book")
+           .as("b")
+           .columns("id", "name")
+           .values(1, "test")
+           .onConflict("id")
+           .doUpdate()
+           .set("id", 1)
+           .set("name", "test")
+           .where("id", "=", 1)
+           .and("id", "!=", 3)
+           .returning("id"));
+
+        queries.put("simple-update", update("book")
+           .as("b")
+           .set("author", asConstant("Andrew"))
+           .where("b.id", "=", 1)
+           .returning("*"));
+
+        queries.put("simple-delete", deleteFrom("book")
+           .as("b")
+           .using("author", "order")
+           .where("b.id", "=", "1")
+           .and(asName("author.id"), operator("="), asName("b.author_id"))
+           .returning("*"));
+
+        return queries;
+    }
+
+    private static com.sun.management.ThreadMXBean threads() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        assumeTrue(bean instanceof com.sun.management.ThreadMXBean, "Allocated bytes are not measurable");
+
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) bean;
+        assumeTrue(threads.isThreadAllocatedMemorySupported(), "Allocated bytes are not measurable");
+        threads.setThreadAllocatedMemoryEnabled(true);
+
+        return threads;
+    }
+
+    @Test
+    void sqlAllocations() throws IOException {
+        com.sun.management.ThreadMXBean threads = threads();
+
+        Properties baselines = new Properties();
+        try (InputStream in = getClass().getClassLoader().getResourceAsStream("allocation-budget.properties")) {
+            assertNotNull(in, "allocation-budget.properties is not found");
+            baselines.load(in);
+        }
+
+        List<String> failures = new ArrayList<>();
+
+        // the budgets cover the building of SQL, not the logging of it
+        ServiceRegister register = new ServiceRegister();
+        register.getMetadataBuilder()
+           .setXmlCfg("")
+           .setPropertiesCfg("")
+           .getMetadata()
+           .addProperty(Settings.SQL_LOGGING, "off");
+
+        Queryman.setTreeFactory(register.make().treeFactory());
+        try {
+            for (Map.Entry<String, Query> entry : queries().entrySet()) {
+                String baseline = baselines.getProperty(entry.getKey());
+                assertNotNull(baseline, "No baseline of " + entry.getKey());
+
+                Query query = entry.getValue();
+                long  bytes = allocated(threads, query::sql);
+                if (bytes > Long.parseLong(baseline) * TOLERANCE)
+                    failures.add(entry.getKey() + ": " + bytes + " bytes per sql(), baseline is " + baseline);
+            }
+        } finally {
+            Queryman.setTreeFactory(new ServiceRegister().makeDefaults().treeFactory());
+        }
+
+        assertTrue(failures.isEmpty(), String.join("\n", failures));
+    }
+
+    /**
+     * A hit of {@link SqlCache} must be cheaper than the rendering of
+     * a prepared SQL, those it replaces.
+     */
+    @Test
+    void sqlCacheHitAllocations() {
+        com.sun.management.ThreadMXBean threads = threads();
+
+        List<String> failures = new ArrayList<>();
+        SqlCache     cache    = new SqlCache(16);
+
+        for (Map.Entry<String, Query> entry : queries().entrySet()) {
+            AbstractSyntaxTree tree = Queryman.getTree();
+            entry.getValue().assemble(tree);
+
+            Node root   = tree.getRootNode();
+            long render = allocated(threads, () -> new TreeFormatter(new Parameters()).buildSQL(root, true));
+            long hit    = allocated(threads, () -> TreeFormatterUtil.buildPreparedSQL(root, new Parameters(), cache));
+
+            if (hit >= render)
+                failures.add(entry.getKey() + ": " + hit + " bytes per hit, " + render + " bytes per render");
+        }
+
+        assertTrue(cache.getHits() > 0);
+        assertTrue(failures.isEmpty(), String.join("\n", failures));
+    }
+
+    /**
+     * @return the least bytes allocated per call of the {@code action} among
+     * the batches
+     */
+    private static long allocated(com.sun.management.ThreadMXBean threads, Runnable action) {
+        long id = Thread.currentThread().getId();
+
+        for (int i = 0; i < WARM_UP; i++)
+            action.run();
+
+        long min = Long.MAX_VALUE;
+        for (int batch = 0; batch < BATCHES; batch++) {
+            long before = threads.getThreadAllocatedBytes(id);
+            for (int i = 0; i < CALLS; i++)
+                action.run();
+            min = Math.min(min, (threads.getThreadAllocatedBytes(id) - before) / CALLS);
+        }
+
+        return min;
+    }
+}
@@ -0,0 +1,40 @@
+package org.queryman.builder.ast;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HistogramTest {
+    @Test
+    void buckets() {
+        for (long value : new long[]{ 0, 1, 3, 4, 5, 7, 8, 9, 100, 1_000_000, Long.MAX_VALUE }) {
+            int index = Histogram.index(value);
+            assertTrue(Histogram.highestValue(index) >= value);
+            assertTrue(index == 0 || Histogram.highestValue(index - 1) < value);
+        }
+
+        assertEquals(Long.MAX_VALUE, Histogram.highestValue(Histogram.index(Long.MAX_VALUE)));
+    }
+
+    @Test
+    void snapshot() {
+        Histogram histogram = new Histogram();
+        assertEquals(0, histogram.snapshot().getCount());
+        assertEquals(0, histogram.snapshot().getP99());
+
+        for (int i = 1; i <= 1000; i++)
+            histogram.record(i);
+
+        HistogramSnapshot snapshot = histogram.snapshot();
+        assertEquals(1000, snapshot.getCount());
+        assertEquals(1, snapshot.getMin());
+        assertEquals(1000, snapshot.getMax());
+        assertEquals(500.5, snapshot.getMean());
+
+        assertTrue(snapshot.getP50() >= 500 && snapshot.getP50() < 500 * 1.25);
+        assertTrue(snapshot.getP90() >= 900 && snapshot.getP90() <= 1000);
+        assertEquals(1000, snapshot.getValueAtPercentile(100));
+        assertEquals(1, snapshot.getValueAtPercentile(0));
+    }
+}
@@ -0,0 +1,63 @@
+package org.queryman.builder.ast;
+
+import org.junit.jupiter.api.Test;
+import org.queryman.builder.BaseTest;
+import org.queryman.builder.token.PreparedExpression;
+import org.queryman.builder.token.expression.prepared.ArrayExpression;
+import org.queryman.builder.token.expression.prepared.BytesExpression;
+import org.queryman.builder.token.expression.prepared.StringExpression;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.queryman.builder.Bootstrap.BOOT;
+import static org.queryman.builder.Queryman.asConstant;
+import static org.queryman.builder.Queryman.select;
+
+class JdbcBindersTest extends BaseTest {
+    static class InetExpression extends StringExpression {
+        InetExpression(String constant) {
+            super(constant);
+        }
+    }
+
+    @Test
+    void resolveBySuperclass() {
+        assertNotNull(JdbcBinders.get(ArrayExpression.class));
+        assertNotSame(JdbcBinders.get(ArrayExpression.class), JdbcBinders.get(BytesExpression.class));
+
+        assertSame(JdbcBinders.get(StringExpression.class), JdbcBinders.get(InetExpression.class));
+        assertNull(JdbcBinders.get(PreparedExpression.class));
+    }
+
+    @Test
+    void register() throws SQLException {
+        JdbcBinder<StringExpression> string = JdbcBinders.get(StringExpression.class);
+        JdbcBinder<InetExpression>   inet   = (s, i, e, c) -> s.setObject(i, e.getValue(), Types.OTHER);
+
+        JdbcBinders.register(InetExpression.class, inet);
+        assertSame(inet, JdbcBinders.get(InetExpression.class));
+        assertSame(string, JdbcBinders.get(StringExpression.class));
+
+        try (Connection conn = BOOT.getDataSource().getConnection()) {
+            try (PreparedStatement statement = select(new InetExpression("127.0.0.1").cast("inet"), asConstant(new byte[]{1, 2}))
+               .buildPreparedStatement(conn)) {
+                try (ResultSet rs = statement.executeQuery()) {
+                    assertTrue(rs.next());
+                    assertEquals("127.0.0.1", rs.getString(1));
+                    assertArrayEquals(new byte[]{1, 2}, rs.getBytes(2));
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package org.queryman.builder.ast;
+
+import org.junit.jupiter.api.Test;
+import org.queryman.builder.token.PreparedExpression;
+import org.queryman.builder.token.expression.prepared.IntegerExpression;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ParametersTest {
+    @Test
+    void addAndGet() {
+        Parameters parameters = new Parameters(1);
+        Map<Integer, PreparedExpression> expected = new HashMap<>();
+
+        for (int i = 1; i <= 10_000; i++) {
+            IntegerExpression expression = new IntegerExpression(i);
+            parameters.add(expression);
+            expected.put(i, expression);
+        }
+
+        assertEquals(10_000, parameters.size());
+        assertEquals(expected, parameters);
+        assertEquals(5_000, parameters.get(5_000).getValue());
+        assertEquals(5_000, parameters.get((Object) 5_000).getValue());
+
+        List<Integer> keys = new ArrayList<>(parameters.keySet());
+        assertEquals(1, (int) keys.get(0));
+        assertEquals(10_000, (int) keys.get(9_999));
+
+        assertThrows(IndexOutOfBoundsException.class, () -> parameters.get(0));
+        assertThrows(IndexOutOfBoundsException.class, () -> parameters.get(10_001));
+        assertNull(parameters.get((Object) 10_001));
+        assertFalse(parameters.containsKey("1"));
+    }
+
+    @Test
+    void put() {
+        Parameters parameters = new Parameters();
+        IntegerExpression one = new IntegerExpression(1);
+        IntegerExpression two = new IntegerExpression(2);
+
+        new IntegerExpression(1).bind((Map) parameters);
+        assertEquals(1, parameters.size());
+
+        assertNull(parameters.put(2, two));
+        assertEquals(2, parameters.put(2, one).getValue());
+        assertSame(one, parameters.get(2));
+
+        assertThrows(IllegalArgumentException.class, () -> parameters.put(4, two));
+
+        parameters.clear();
+        assertEquals(0, parameters.size());
+    }
+}
@@ -0,0 +1,84 @@
+package org.queryman.builder.ast;
+
+import org.junit.jupiter.api.Test;
+import org.queryman.builder.BaseTest;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.queryman.builder.Bootstrap.BOOT;
+import static org.queryman.builder.Queryman.deleteFrom;
+import static org.queryman.builder.Queryman.insertInto;
+import static org.queryman.builder.Queryman.param;
+import static org.queryman.builder.Queryman.update;
+
+class QueryBatchTest extends BaseTest {
+    private static final int BOOK_ID = 900_000;
+
+    @Test
+    void insertUpdateDelete() throws SQLException {
+        try (Connection conn = BOOT.getDataSource().getConnection()) {
+            try (QueryBatch batch = insertInto("orders")
+               .columns("book_id", "author_id")
+               .values(param("book_id"), param("author_id"))
+               .batch(conn)
+               .setBatchSize(1000)) {
+
+                for (int i = 0; i < 2500; i++)
+                    batch.add(BOOK_ID + i, 1);
+
+                assertEquals(500, batch.getPending());
+
+                List<int[]> counts = batch.execute();
+                assertEquals(3, counts.size());
+                assertEquals(1000, counts.get(0).length);
+                assertEquals(500, counts.get(2).length);
+                assertEquals(1, counts.get(2)[0]);
+                assertEquals(0, batch.getPending());
+            }
+
+            try (QueryBatch batch = update("orders")
+               .set("author_id", param("author_id"))
+               .where("book_id", "=", param("book_id"))
+               .batch(conn)) {
+
+                batch.add(Map.of("book_id", BOOK_ID, "author_id", 2))
+                   .add(Map.of("book_id", BOOK_ID + 1, "author_id", 2))
+                   .add(Map.of("book_id", -1, "author_id", 2));
+
+                assertArrayEquals(new int[]{ 1, 1, 0 }, batch.flush());
+                assertEquals(0, batch.flush().length);
+            }
+
+            assertEquals(2, count(conn, "author_id = 2 AND book_id >= " + BOOK_ID));
+
+            try (QueryBatch batch = deleteFrom("orders")
+               .where("book_id", ">=", param("from"))
+               .batch(conn)) {
+
+                assertThrows(IllegalArgumentException.class, () -> batch.add(1, 2));
+                assertThrows(IllegalArgumentException.class, () -> batch.setBatchSize(0));
+
+                assertArrayEquals(new int[]{ 2500 }, batch.add(BOOK_ID).execute().get(0));
+            }
+
+            assertEquals(0, count(conn, "book_id >= " + BOOK_ID));
+        }
+    }
+
+    private static int count(Connection conn, String condition) throws SQLException {
+        try (Statement statement = conn.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT count(*) FROM orders WHERE " + condition)) {
+            assertTrue(rs.next());
+            return rs.getInt(1);
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package org.queryman.builder.ast;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.queryman.builder.BaseTest;
+import org.queryman.builder.Query;
+import org.queryman.builder.Queryman;
+import org.queryman.builder.boot.ServiceRegister;
+import org.queryman.builder.cfg.Settings;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+import java.lang.management.ManagementFactory;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.queryman.builder.Bootstrap.BOOT;
+import static org.queryman.builder.Queryman.asConstant;
+import static org.queryman.builder.Queryman.asName;
+import static org.queryman.builder.Queryman.operator;
+import static org.queryman.builder.Queryman.select;
+
+class QueryMetricsTest extends BaseTest {
+    @BeforeEach
+    void setUp() {
+        ServiceRegister register = new ServiceRegister();
+        register.getMetadataBuilder()
+           .setXmlCfg("")
+           .setPropertiesCfg("")
+           .getMetadata()
+           .addProperty(Settings.METRICS, "true");
+
+        Queryman.setTreeFactory(register.make().treeFactory());
+    }
+
+    @AfterEach
+    void tearDown() {
+        Queryman.setTreeFactory(new ServiceRegister().makeDefaults().treeFactory());
+    }
+
+    private static Query query(Object value) {
+        return select(asName("id"), asName("name"))
+           .from(asName("book"))
+           .where(asName("id"), operator("="), asConstant(value));
+    }
+
+    @Test
+    void recordByShape() throws SQLException {
+        QueryMetrics metrics = Queryman.getQueryMetrics();
+        assertTrue(metrics.isEnabled());
+
+        assertEquals("SELECT id, name FROM book WHERE id = 1", query(1).sql());
+        assertEquals("SELECT id, name FROM book WHERE id = 22", query(22).sql());
+        try (Connection conn = BOOT.getDataSource().getConnection();
+             PreparedStatement statement = query(3).buildPreparedStatement(conn)) {
+            statement.executeQuery().close();
+        }
+        select(asName("id")).from(asName("book")).sql();
+
+        assertEquals(2, metrics.getShapeCount());
+
+        ShapeSnapshot shape = metrics.getShapes()
+           .stream()
+           .filter(s -> s.getSql().equals("SELECT id, name FROM book WHERE id = ?"))
+           .findFirst()
+           .orElseThrow(AssertionError::new);
+
+        assertEquals(3, shape.getCount());
+        assertEquals(3, shape.getAssembly().getCount());
+        assertEquals(3, shape.getRender().getCount());
+        assertEquals(1, shape.getBind().getCount());
+        assertEquals(1, shape.getParameters().getMin());
+        assertEquals(1, shape.getParameters().getMax());
+        assertEquals("SELECT id, name FROM book WHERE id = ?".length(), shape.getSqlLength().getMin());
+        assertEquals("SELECT id, name FROM book WHERE id = 22".length(), shape.getSqlLength().getMax());
+
+        metrics.reset();
+        assertEquals(0, metrics.getShapeCount());
+    }
+
+    @Test
+    void jmx() throws Exception {
+        query(1).sql();
+
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName  name   = new ObjectName(QueryMetrics.OBJECT_NAME);
+
+        assertEquals(true, server.getAttribute(name, "Enabled"));
+        assertEquals(1, server.getAttribute(name, "ShapeCount"));
+
+        CompositeData[] shapes = (CompositeData[]) server.getAttribute(name, "Shapes");
+        assertEquals(1, shapes.length);
+        assertEquals("SELECT id, name FROM book WHERE id = ?", shapes[0].get("sql"));
+        assertEquals(1L, shapes[0].get("count"));
+        assertEquals(1L, ((CompositeData) shapes[0].get("render")).get("count"));
+
+        Queryman.setTreeFactory(new ServiceRegister().makeDefaults().treeFactory());
+        assertFalse(server.isRegistered(name));
+    }
+
+    @Test
+    void disabled() {
+        Queryman.setTreeFactory(new ServiceRegister().makeDefaults().treeFactory());
+
+        QueryMetrics metrics = Queryman.getQueryMetrics();
+        assertFalse(metrics.isEnabled());
+        assertNull(metrics.start());
+
+        query(1).sql();
+        assertEquals(0, metrics.getShapeCount());
+    }
+
+    @Test
+    void limitOfShapes() {
+        QueryMetrics metrics = Queryman.getQueryMetrics();
+
+        for (int i = 0; i <= QueryMetrics.MAX_SHAPES; i++)
+            select(asName("column" + i)).sql();
+
+        assertEquals(QueryMetrics.MAX_SHAPES, metrics.getShapeCount());
+        assertEquals(1, metrics.getDropped());
+
+        List<ShapeSnapshot> shapes = metrics.getShapes();
+        assertEquals(QueryMetrics.MAX_SHAPES, shapes.size());
+    }
+}
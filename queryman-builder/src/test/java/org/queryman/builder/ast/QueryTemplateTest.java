@@ -0,0 +1,84 @@
+package org.queryman.builder.ast;
+
+import org.junit.jupiter.api.Test;
+import org.queryman.builder.BaseTest;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.queryman.builder.Bootstrap.BOOT;
+import static org.queryman.builder.Queryman.asConstant;
+import static org.queryman.builder.Queryman.param;
+import static org.queryman.builder.Queryman.select;
+
+class QueryTemplateTest extends BaseTest {
+    @Test
+    void compile() {
+        QueryTemplate template = select("id", "name")
+           .from("book")
+           .where("id", "=", param("id"))
+           .and("name", "=", param("name"))
+           .or("id", "=", param("id"))
+           .compile();
+
+        assertEquals("SELECT id, name FROM book WHERE id = ? AND name = ? OR id = ?", template.getSql());
+        assertEquals(List.of("id", "name"), template.getParameterNames());
+    }
+
+    @Test
+    void sql() {
+        assertEquals("SELECT id FROM book WHERE id = :id", select("id").from("book").where("id", "=", param("id")).sql());
+    }
+
+    @Test
+    void bind() throws SQLException {
+        QueryTemplate template = select(param("a").cast("int"), param("b").cast("text"), asConstant(5), param("a").cast("int"))
+           .compile();
+
+        try (Connection conn = BOOT.getDataSource().getConnection()) {
+            for (int i = 0; i < 3; i++) {
+                try (PreparedStatement statement = template.bind(conn, i, "b" + i)) {
+                    try (ResultSet rs = statement.executeQuery()) {
+                        assertTrue(rs.next());
+                        assertEquals(i, rs.getInt(1));
+                        assertEquals("b" + i, rs.getString(2));
+                        assertEquals(5, rs.getInt(3));
+                        assertEquals(i, rs.getInt(4));
+                    }
+                }
+            }
+
+            Map<String, Object> values = new HashMap<>();
+            values.put("a", 7);
+            values.put("b", null);
+
+            try (PreparedStatement statement = template.bind(conn, values)) {
+                try (ResultSet rs = statement.executeQuery()) {
+                    assertTrue(rs.next());
+                    assertEquals(7, rs.getInt(1));
+                    assertNull(rs.getString(2));
+                }
+            }
+
+            assertThrows(IllegalArgumentException.class, () -> template.bind(conn, 1));
+            assertThrows(IllegalArgumentException.class, () -> template.bind(conn, Map.of("a", 1)));
+            assertThrows(IllegalArgumentException.class, () -> template.bind(conn, 1, new Object()));
+        }
+    }
+
+    @Test
+    void unboundParameter() throws SQLException {
+        try (Connection conn = BOOT.getDataSource().getConnection()) {
+            assertThrows(IllegalStateException.class, () -> select(param("a")).buildPreparedStatement(conn));
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package org.queryman.builder.ast;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.queryman.builder.Query;
+import org.queryman.builder.Queryman;
+import org.queryman.builder.boot.ServiceRegister;
+import org.queryman.builder.cfg.Settings;
+import org.queryman.builder.token.PreparedExpression;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.queryman.builder.Queryman.asConstant;
+import static org.queryman.builder.Queryman.asName;
+import static org.queryman.builder.Queryman.operator;
+import static org.queryman.builder.Queryman.select;
+import static org.queryman.builder.ast.TreeFormatterUtil.buildPreparedParameters;
+import static org.queryman.builder.ast.TreeFormatterUtil.buildPreparedSQL;
+
+class SqlCacheTest {
+    @BeforeEach
+    void setUp() {
+        ServiceRegister register = new ServiceRegister();
+        register.getMetadataBuilder()
+           .setXmlCfg("")
+           .setPropertiesCfg("")
+           .getMetadata()
+           .addProperty(Settings.SQL_CACHE_SIZE, "2");
+
+        Queryman.setTreeFactory(register.make().treeFactory());
+    }
+
+    @AfterEach
+    void tearDown() {
+        Queryman.setTreeFactory(new ServiceRegister().makeDefaults().treeFactory());
+    }
+
+    private static Query query(String column, Object value) {
+        return select(asName("id"))
+           .from(asName("book"))
+           .where(asName(column), operator("="), asConstant(value));
+    }
+
+    @Test
+    void hitOnEqualShape() {
+        SqlCache cache = Queryman.getSqlCache();
+        assertTrue(cache.isEnabled());
+
+        assertEquals("SELECT id FROM book WHERE year = ?", buildPreparedSQL(query("year", 1)));
+        assertEquals(1, cache.getMisses());
+        assertEquals(0, cache.getHits());
+
+        Map<Integer, PreparedExpression> params = buildPreparedParameters(query("year", 2));
+        assertEquals(1, cache.getHits());
+        assertEquals(1, params.size());
+        assertEquals(2, params.get(1).getValue());
+
+        assertEquals("SELECT id FROM book WHERE year = ?", buildPreparedSQL(query("year", 3)));
+        assertEquals(2, cache.getHits());
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void missOnDistinctShape() {
+        SqlCache cache = Queryman.getSqlCache();
+
+        assertEquals("SELECT id FROM book WHERE year = ?", buildPreparedSQL(query("year", 1)));
+        assertEquals("SELECT id FROM book WHERE name = ?", buildPreparedSQL(query("name", 1)));
+        assertEquals("SELECT id FROM book WHERE year = ?::int", buildPreparedSQL(
+           select(asName("id"))
+              .from(asName("book"))
+              .where(asName("year"), operator("="), asConstant(1).cast("int"))
+        ));
+
+        assertEquals(0, cache.getHits());
+        assertEquals(3, cache.getMisses());
+        assertEquals(2, cache.size());
+
+        cache.clear();
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.getMisses());
+    }
+
+    @Test
+    void evictLeastRecentlyUsed() {
+        SqlCache cache = Queryman.getSqlCache();
+
+        buildPreparedSQL(query("year", 1));
+        buildPreparedSQL(query("name", 1));
+        buildPreparedSQL(query("year", 2));
+        assertEquals(1, cache.getHits());
+
+        // "name" is the least recently used
+        buildPreparedSQL(query("id", 1));
+        assertEquals(2, cache.size());
+
+        buildPreparedSQL(query("year", 3));
+        assertEquals(2, cache.getHits());
+
+        buildPreparedSQL(query("name", 2));
+        assertEquals(2, cache.getHits());
+        assertEquals(4, cache.getMisses());
+    }
+
+    @Test
+    void shapeIgnoresValues() {
+        Parameters params1 = new Parameters();
+        Parameters params2 = new Parameters();
+
+        QueryShape shape1 = QueryShape.of(tree(query("year", 1)), params1);
+        QueryShape shape2 = QueryShape.of(tree(query("year", 2)), params2);
+
+        assertEquals(shape1, shape2);
+        assertEquals(shape1.hashCode(), shape2.hashCode());
+        assertEquals(1, params1.get(1).getValue());
+        assertEquals(2, params2.get(1).getValue());
+
+        assertNotEquals(shape1, QueryShape.of(tree(query("name", 1)), new Parameters()));
+    }
+
+    @Test
+    void disabled() {
+        SqlCache cache = new SqlCache(0);
+        assertFalse(cache.isEnabled());
+
+        assertThrows(IllegalArgumentException.class, () -> new SqlCache(-1));
+    }
+
+    private static Node tree(Query query) {
+        AbstractSyntaxTree tree = Queryman.getTree();
+        query.assemble(tree);
+
+        return tree.getRootNode();
+    }
+}
@@ -0,0 +1,88 @@
+package org.queryman.builder.ast;
+
+import org.junit.jupiter.api.Test;
+import org.queryman.builder.Queryman;
+import org.queryman.builder.boot.ServiceRegister;
+import org.queryman.builder.cfg.Settings;
+import org.queryman.builder.token.PreparedExpression;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.queryman.builder.Queryman.asConstant;
+import static org.queryman.builder.Queryman.select;
+import static org.queryman.builder.ast.SqlLogger.NOT_TIMED;
+
+class SqlLoggerTest {
+    private static final String SQL = "SELECT 1";
+
+    @Test
+    void off() {
+        SqlLogger logger = new SqlLogger(SqlLogger.Mode.OFF, 1, 0);
+
+        assertEquals(NOT_TIMED, logger.start());
+        assertFalse(logger.log(SQL, null));
+        assertFalse(logger.logSlow(SQL, null, logger.start()));
+    }
+
+    @Test
+    void full() {
+        SqlLogger logger = new SqlLogger(SqlLogger.Mode.FULL, 1, 0);
+
+        assertEquals(NOT_TIMED, logger.start());
+        assertTrue(logger.log(SQL, null));
+        assertTrue(logger.log(SQL, new Parameters().add((PreparedExpression) asConstant(1)).add(null)));
+        assertFalse(logger.logSlow(SQL, null, logger.start()));
+    }
+
+    @Test
+    void sampled() {
+        SqlLogger logger = new SqlLogger(SqlLogger.Mode.SAMPLED, 3, 0);
+
+        for (int i = 1; i <= 9; i++)
+            assertEquals(i % 3 == 0, logger.log(SQL, null));
+    }
+
+    @Test
+    void slow() {
+        SqlLogger logger = new SqlLogger(SqlLogger.Mode.SLOW, 1, 0);
+
+        long start = logger.start();
+        assertNotEquals(NOT_TIMED, start);
+        assertFalse(logger.log(SQL, null));
+        assertTrue(logger.logSlow(SQL, null, start));
+
+        logger = new SqlLogger(SqlLogger.Mode.SLOW, 1, 60_000);
+        assertFalse(logger.logSlow(SQL, null, logger.start()));
+    }
+
+    @Test
+    void invalid() {
+        assertThrows(IllegalArgumentException.class, () -> SqlLogger.Mode.of("verbose"));
+        assertThrows(IllegalArgumentException.class, () -> new SqlLogger(SqlLogger.Mode.SAMPLED, 0, 0));
+        assertThrows(IllegalArgumentException.class, () -> new SqlLogger(SqlLogger.Mode.SLOW, 1, -1));
+    }
+
+    @Test
+    void settings() {
+        assertEquals(SqlLogger.Mode.FULL, Queryman.getSqlLogger().getMode());
+
+        ServiceRegister register = new ServiceRegister();
+        register.getMetadataBuilder()
+           .setXmlCfg("")
+           .setPropertiesCfg("")
+           .getMetadata()
+           .addProperty(Settings.SQL_LOGGING, "Off")
+           .addProperty(Settings.SQL_LOGGING_SAMPLE_RATE, "10");
+
+        try {
+            Queryman.setTreeFactory(register.make().treeFactory());
+            assertEquals(SqlLogger.Mode.OFF, Queryman.getSqlLogger().getMode());
+            assertEquals("SELECT 1", select(1).sql());
+        } finally {
+            Queryman.setTreeFactory(new ServiceRegister().makeDefaults().treeFactory());
+        }
+    }
+}
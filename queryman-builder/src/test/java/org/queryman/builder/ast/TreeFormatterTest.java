@@ -4,18 +4,29 @@ import org.junit.jupiter.api.Test;
 import org.queryman.builder.Query;
 import org.queryman.builder.token.Expression;
 
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.queryman.builder.Queryman.asConstant;
 import static org.queryman.builder.Queryman.asName;
 import static org.queryman.builder.Queryman.asQuotedName;
 import static org.queryman.builder.Queryman.condition;
 import static org.queryman.builder.Queryman.from;
 import static org.queryman.builder.Queryman.fromOnly;
+import static org.queryman.builder.Queryman.keyword;
 import static org.queryman.builder.Queryman.operator;
 import static org.queryman.builder.Queryman.select;
 import static org.queryman.builder.Queryman.selectAll;
 import static org.queryman.builder.Queryman.selectDistinct;
 import static org.queryman.builder.Queryman.selectDistinctOn;
+import static org.queryman.builder.ast.NodeUtil.node;
 import static org.queryman.builder.ast.TreeFormatterTestUtil.buildPreparedSQL;
 
 class TreeFormatterTest {
@@ -82,4 +93,69 @@ class TreeFormatterTest {
         query = select(asConstant(1), asName("id")).from("book").leftJoin("order");
         assertEquals("SELECT ?, id FROM book LEFT JOIN order", buildPreparedSQL(query));
     }
-}
\ No newline at end of file
+
+    @Test
+    void joinNodes() {
+        Node node = node(new NodeMetadata(keyword("ORDER BY")).setJoinNodes(true))
+           .setDelimiter(", ")
+           .addChildNode(node(NodesMetadata.EMPTY).addLeaf(asName("id")))
+           .addChildNode(node(NodesMetadata.EMPTY).addLeaf(asName("name")).addLeaf(keyword("DESC")));
+
+        assertEquals("ORDER BY id, name DESC", new TreeFormatter().buildSQL(node));
+    }
+
+    @Test
+    void operatorPosition() {
+        Node node = node(new NodeMetadata(operator("AND"), 1, true))
+           .addChildNode(node(new NodeMetadata(operator("="))).addLeaf(asName("id")).addLeaf(asConstant(1)))
+           .addChildNode(node(new NodeMetadata(operator("IS NULL"), 1)).addLeaf(asName("name")));
+
+        TreeFormatter formatter = new TreeFormatter();
+        assertEquals("(id = 1 AND name IS NULL)", formatter.buildSQL(node));
+        assertEquals("(id = ? AND name IS NULL)", formatter.buildSQL(node, true));
+        assertEquals(1, formatter.getParameters().size());
+
+        Node broken = node(new NodeMetadata(operator("="), 3)).addLeaf(asName("id"));
+        assertThrows(IndexOutOfBoundsException.class, () -> new TreeFormatter().buildSQL(broken));
+    }
+
+    @Test
+    void emptyNodes() {
+        Node node = node(NodesMetadata.EMPTY)
+           .addChildNode(node(NodesMetadata.EMPTY_GROUPED))
+           .addChildNode(node(NodesMetadata.EMPTY))
+           .addChildNode(node(keyword("DEFAULT VALUES")));
+
+        assertEquals("()  DEFAULT VALUES", new TreeFormatter().buildSQL(node));
+    }
+
+    @Test
+    void renderToAppendable() throws IOException {
+        Query query = select(asName("id"), asConstant("Война и мир"))
+           .from(asName("book"))
+           .where(asName("year"), operator("="), asConstant(22));
+
+        String sql = query.sql();
+
+        assertEquals(sql, query.renderTo(new StringBuilder()).toString());
+        assertEquals(sql, query.renderTo(new StringWriter()).toString());
+
+        CharBuffer buffer = query.renderTo(CharBuffer.allocate(sql.length()));
+        buffer.flip();
+        assertEquals(sql, buffer.toString());
+    }
+
+    @Test
+    void renderToByteBuffer() {
+        Query query = select(asName("id"), asConstant("Война и мир \uD83D\uDCDA"), asConstant("\uD83D"))
+           .from(asName("book"));
+
+        byte[] expected = query.sql().getBytes(UTF_8);
+
+        ByteBuffer buffer = query.renderTo(ByteBuffer.allocate(expected.length));
+        assertArrayEquals(expected, buffer.array());
+        assertEquals(expected.length, buffer.position());
+
+        assertThrows(BufferOverflowException.class, () -> query.renderTo(ByteBuffer.allocate(expected.length - 1)));
+    }
+}
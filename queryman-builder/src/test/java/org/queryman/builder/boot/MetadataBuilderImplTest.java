@@ -17,7 +17,7 @@ class MetadataBuilderImplTest {
         Metadata metadata = builder.getMetadata();
         assertNotNull(metadata);
 
-        assertEquals(metadata.getProperties().size(), 1);
+        assertEquals(metadata.getProperties().size(), Settings.settings.length);
     }
 
     @Test
@@ -29,6 +29,7 @@ class MetadataBuilderImplTest {
 
         Metadata metadata = builder.getMetadata();
         assertEquals(metadata.getProperty(Settings.USE_UPPERCASE), "false");
+        assertEquals(metadata.getProperty(Settings.SQL_CACHE_SIZE), "0");
     }
 
     @Test
@@ -39,7 +40,7 @@ class MetadataBuilderImplTest {
             .build();
 
         Metadata metadata = builder.getMetadata();
-        assertEquals(metadata.getProperties().size(), 1);
+        assertEquals(metadata.getProperties().size(), Settings.settings.length);
     }
 
     @Test
@@ -51,7 +52,7 @@ class MetadataBuilderImplTest {
             .build();
 
         Metadata metadata = builder.getMetadata();
-        assertEquals(metadata.getProperties().size(), 1);
+        assertEquals(metadata.getProperties().size(), Settings.settings.length);
     }
 
     @Test
@@ -64,6 +65,6 @@ class MetadataBuilderImplTest {
         builder.build(metadata);
 
         Metadata newMetadata = builder.getMetadata();
-        assertEquals(newMetadata.getProperties().size(), 2);
+        assertEquals(newMetadata.getProperties().size(), Settings.settings.length + 1);
     }
 }
\ No newline at end of file
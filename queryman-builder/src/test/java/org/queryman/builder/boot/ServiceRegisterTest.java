@@ -21,8 +21,10 @@ class ServiceRegisterTest {
 
         serviceRegister.make();
         Metadata metadata = serviceRegister.getMetadataBuilder().getMetadata();
-        assertEquals(metadata.getProperties().size(), 1);
+        assertEquals(metadata.getProperties().size(), Settings.settings.length);
         assertEquals(metadata.getProperty(Settings.USE_UPPERCASE), Settings.DEFAULTS.get(Settings.USE_UPPERCASE));
+        assertEquals(metadata.getProperty(Settings.SQL_CACHE_SIZE), Settings.DEFAULTS.get(Settings.SQL_CACHE_SIZE));
+        assertEquals(serviceRegister.treeFactory().getSqlCache().isEnabled(), false);
     }
 
     @Test
@@ -9,14 +9,27 @@ package org.queryman.builder.command.impl;
 import org.junit.jupiter.api.Test;
 import org.queryman.builder.BaseTest;
 import org.queryman.builder.Query;
+import org.queryman.builder.Queryman;
+import org.queryman.builder.ast.Node;
+import org.queryman.builder.boot.ServiceRegister;
+import org.queryman.builder.cfg.Settings;
 import org.queryman.builder.command.Conditions;
+import org.queryman.builder.token.Expression;
+import org.queryman.builder.token.expression.ListExpression;
 import org.queryman.builder.token.expression.prepared.ArrayExpression;
 
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.List;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.queryman.builder.Bootstrap.BOOT;
 import static org.queryman.builder.Operators.EQUAL;
 import static org.queryman.builder.Operators.IN;
 import static org.queryman.builder.Operators.LIKE;
@@ -36,6 +49,7 @@ import static org.queryman.builder.Queryman.conditionAny;
 import static org.queryman.builder.Queryman.conditionBetween;
 import static org.queryman.builder.Queryman.conditionExists;
 import static org.queryman.builder.Queryman.conditionSome;
+import static org.queryman.builder.Queryman.insertInto;
 import static org.queryman.builder.Queryman.operator;
 import static org.queryman.builder.Queryman.select;
 import static org.queryman.builder.Queryman.some;
@@ -483,4 +497,343 @@ public class ConditionsImplTest extends BaseTest {
         assertEquals("id = ALL(SELECT 1, 2) AND id = ALL(SELECT id FROM user)", buildSQL(conditions));
         assertEquals("id = ALL(SELECT 1, 2) AND id = ALL(SELECT id FROM user)", buildPreparedSQL(conditions));
     }
+
+    @Test
+    void deepConditions() {
+        for (int size : new int[]{ 1_000, 10_000, 100_000 }) {
+            Conditions conditions = condition("id", "=", asConstant(0));
+            for (int i = 1; i < size; i++)
+                conditions.or("id", "=", asConstant(i));
+
+            String sql = buildSQL(conditions);
+            assertTrue(sql.startsWith("id = 0 OR id = 1 OR id = 2"));
+            assertTrue(sql.endsWith("OR id = " + (size - 1)));
+
+            testBindParameters(conditions, map -> {
+                assertEquals(size, map.size());
+            });
+        }
+    }
+
+    @Test
+    void flatConditions() {
+        Conditions conditions = condition("id", "=", asConstant(0));
+        for (int i = 1; i < 10_000; i++)
+            conditions.and("id", "=", asConstant(i));
+
+        assertEquals(10_000, conditions.getNode().count());
+        for (Node node : conditions.getNode().getNodes())
+            assertTrue(node.count() <= 1);
+    }
+
+    @Test
+    void sharedConditions() {
+        Conditions inner = condition("id", "=", 1).or("id", "=", 2);
+        Conditions outer = condition("id", "=", 3).and(inner);
+
+        inner.or("id", "=", 4);
+        assertEquals("id = 3 AND (id = 1 OR id = 2)", buildSQL(outer));
+        assertEquals("(id = 1 OR id = 2) OR id = 4", buildSQL(inner));
+
+        outer.and("id", "=", 5);
+        assertEquals("id = 3 AND (id = 1 OR id = 2) AND id = 5", buildSQL(outer));
+    }
+
+    @Test
+    void inListAsArray() throws SQLException {
+        List<Integer>    ids   = new ArrayList<>();
+        List<Expression> names = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            ids.add(i);
+            names.add(asConstant("name" + i));
+        }
+
+        Conditions conditions = condition(asName("id"), IN, asList(ids));
+        assertTrue(buildSQL(conditions).startsWith("id = ANY(ARRAY[0, 1, 2, "));
+        assertEquals("id = ANY(?)", buildPreparedSQL(conditions));
+        testBindParameters(conditions, map -> {
+            assertEquals(1, map.size());
+            assertArrayEquals(ids.stream().mapToInt(i -> i).toArray(), (int[]) map.get(1).getValue());
+        });
+
+        conditions = condition(asName("name"), NOT_IN, asList(names));
+        assertTrue(buildSQL(conditions).startsWith("name <> ALL(ARRAY['name0', 'name1', "));
+        assertEquals("name <> ALL(?)", buildPreparedSQL(conditions));
+
+        List<Object> mixed = new ArrayList<>(ids);
+        mixed.add("name");
+        conditions = condition(asName("id"), IN, asList(mixed));
+        assertTrue(buildPreparedSQL(conditions).startsWith("id IN (?, ?, "));
+
+        conditions = condition(asName("id"), IN, asList(ids.subList(0, 32)));
+        assertTrue(buildPreparedSQL(conditions).startsWith("id IN (?, ?, "));
+
+        List<Expression> casts = new ArrayList<>();
+        for (int i = 0; i < 40; i++)
+            casts.add(asConstant(String.valueOf(i)).cast("int"));
+
+        conditions = condition(asName("id"), IN, asList(casts));
+        assertTrue(buildSQL(conditions).startsWith("id IN ('0'::int, '1'::int, "));
+        assertTrue(buildPreparedSQL(conditions).startsWith("id IN (?::int, ?::int, "));
+        testBindParameters(conditions, map -> {
+            assertEquals(40, map.size());
+            assertEquals("0", map.get(1).getValue());
+        });
+        inBothStatement(select("id").from("book").where(asName("id"), IN, asList(casts)), rs -> { });
+
+        Query query = select("id")
+           .from("book")
+           .where(asName("id"), IN, asList(ids))
+           .and(asName("name"), NOT_IN, asList(names));
+        inBothStatement(query, rs -> { });
+    }
+
+    @Test
+    void paddedInList() throws SQLException {
+        assertEquals(8, ListExpression.bucketSize(1));
+        assertEquals(8, ListExpression.bucketSize(8));
+        assertEquals(16, ListExpression.bucketSize(9));
+        assertEquals(32, ListExpression.bucketSize(17));
+        assertEquals(32, ListExpression.bucketSize(32));
+
+        ListExpression<Integer> list = new ListExpression<>(1, 2, 3);
+        assertEquals("(1, 2, 3, 3, 3, 3, 3, 3)", list.padded().getName());
+
+        ListExpression<Integer> full = new ListExpression<>(1, 2, 3, 4, 5, 6, 7, 8);
+        assertSame(full, full.padded());
+
+        Conditions conditions = condition(asName("id"), IN, asList(1, 2, 3));
+        assertEquals("id IN (?, ?, ?)", buildPreparedSQL(conditions));
+
+        ServiceRegister register = new ServiceRegister();
+        register.getMetadataBuilder()
+           .setXmlCfg("")
+           .setPropertiesCfg("")
+           .getMetadata()
+           .addProperty(Settings.IN_LIST_PADDING, "true");
+
+        Queryman.setTreeFactory(register.make().treeFactory());
+        try {
+            assertTrue(Queryman.isInListPadding());
+
+            conditions = condition(asName("id"), IN, asList(1, 2, 3));
+            assertEquals("id IN (1, 2, 3, 3, 3, 3, 3, 3)", buildSQL(conditions));
+            assertEquals("id IN (?, ?, ?, ?, ?, ?, ?, ?)", buildPreparedSQL(conditions));
+            testBindParameters(conditions, map -> {
+                assertEquals(8, map.size());
+                assertEquals(3, map.get(8).getValue());
+            });
+
+            conditions = condition(asName("id"), IN, asList(1, 2, asFunc("random")));
+            assertEquals("id IN (1, 2, random())", buildSQL(conditions));
+
+            conditions = condition(asName("id"), IN, asList(asName("a"), asName("b")));
+            assertEquals("id IN (a, b)", buildSQL(conditions));
+
+            conditions = condition(asName("id"), NOT_IN, asList(1, asSubQuery(select("max(id)").from("book"))));
+            assertEquals("id NOT IN (1, (SELECT max(id) FROM book))", buildSQL(conditions));
+
+            String sql = buildPreparedSQL(condition(asName("id"), NOT_IN, asList(1, 2, 3, 4, 5, 6, 7, 8, 9)));
+            assertEquals(16, sql.chars().filter(c -> c == '?').count());
+
+            List<Integer> ids = new ArrayList<>();
+            for (int i = 0; i < 40; i++)
+                ids.add(i);
+
+            conditions = condition(asName("id"), IN, asList(ids));
+            assertEquals("id = ANY(?)", buildPreparedSQL(conditions));
+
+            Query query = select("id")
+               .from("book")
+               .where(asName("id"), IN, asList(1, 2, 3))
+               .and(asName("id"), NOT_IN, asList(4, 5));
+            inBothStatement(query, rs -> { });
+        } finally {
+            Queryman.setTreeFactory(new ServiceRegister().makeDefaults().treeFactory());
+        }
+    }
+
+    @Test
+    void stagedInList() throws SQLException {
+        ServiceRegister register = new ServiceRegister();
+        register.getMetadataBuilder()
+           .setXmlCfg("")
+           .setPropertiesCfg("")
+           .getMetadata()
+           .addProperty(Settings.IN_LIST_TEMP_TABLE_THRESHOLD, "50000");
+
+        Queryman.setTreeFactory(register.make().treeFactory());
+        try (Connection conn = BOOT.getDataSource().getConnection()) {
+            List<Long>     keys = new ArrayList<>();
+            List<Object[]> rows = new ArrayList<>();
+            for (long i = 0; i < 100_000; i++) {
+                keys.add(700_000 + i);
+                if (i % 10_000 == 0)
+                    rows.add(new Object[]{ 700_000 + i, -18L });
+            }
+            rows.add(new Object[]{ 699_999L, -18L });
+
+            Conditions conditions = condition(asName("book_id"), IN, asList(keys));
+            assertTrue(buildSQL(conditions).startsWith("book_id IN (700000, 700001, "));
+            assertEquals("book_id IN (SELECT key FROM pg_temp.queryman_keys_int8)", buildPreparedSQL(conditions));
+            testBindParameters(conditions, map -> assertEquals(0, map.size()));
+
+            conditions = condition(asName("book_id"), NOT_IN, asList(keys));
+            assertTrue(buildSQL(conditions).startsWith("book_id NOT IN (700000, 700001, "));
+            assertEquals(
+               "(book_id IS NOT NULL AND NOT EXISTS (SELECT 1 FROM pg_temp.queryman_keys_int8 k WHERE k.key = book_id))",
+               buildPreparedSQL(conditions)
+            );
+
+            conditions = condition(asName("book_id"), IN, asList(keys))
+               .and(asName("author_id"), NOT_IN, asList(keys));
+            assertEquals(
+               "book_id IN (SELECT key FROM pg_temp.queryman_keys_int8) AND (author_id IS NOT NULL AND NOT EXISTS (SELECT 1 FROM pg_temp.queryman_keys_int8_2 k WHERE k.key = author_id))",
+               buildPreparedSQL(conditions)
+            );
+
+            conditions = condition(asName("book_id"), IN, asList(keys.subList(0, 40)));
+            assertEquals("book_id = ANY(?)", buildPreparedSQL(conditions));
+
+            try (PreparedStatement statement = insertInto("orders")
+               .columns("book_id", "author_id")
+               .valuesRows(rows)
+               .buildPreparedStatement(conn)) {
+                assertEquals(11, statement.executeUpdate());
+            }
+
+            Query in = select("book_id")
+               .from("orders")
+               .where(asName("author_id"), EQUAL, asConstant(-18))
+               .and(asName("book_id"), IN, asList(keys));
+
+            Query notIn = select("book_id")
+               .from("orders")
+               .where(asName("author_id"), EQUAL, asConstant(-18))
+               .and(asName("book_id"), NOT_IN, asList(keys));
+
+            assertEquals(10, count(in.buildPreparedStatement(conn)));
+
+            conn.setAutoCommit(false);
+            assertEquals(10, count(in.buildPreparedStatement(conn)));
+            assertEquals(1, count(notIn.buildPreparedStatement(conn)));
+            assertEquals(10, count(in.compile().bind(conn)));
+            conn.rollback();
+            conn.setAutoCommit(true);
+
+            try (PreparedStatement statement = conn.prepareStatement("DELETE FROM orders WHERE author_id = -18")) {
+                assertEquals(11, statement.executeUpdate());
+            }
+        } finally {
+            Queryman.setTreeFactory(new ServiceRegister().makeDefaults().treeFactory());
+        }
+    }
+
+    @Test
+    void stagedInListTables() throws SQLException {
+        ServiceRegister register = new ServiceRegister();
+        register.getMetadataBuilder()
+           .setXmlCfg("")
+           .setPropertiesCfg("")
+           .getMetadata()
+           .addProperty(Settings.IN_LIST_TEMP_TABLE_THRESHOLD, "10");
+
+        Queryman.setTreeFactory(register.make().treeFactory());
+        try (Connection conn = BOOT.getDataSource().getConnection()) {
+            List<Long> keys = new ArrayList<>();
+            for (long i = 0; i < 20; i++)
+                keys.add(i);
+
+            Query in = select("book_id")
+               .from("orders")
+               .where(asName("book_id"), IN, asList(keys));
+
+            Query notIn = select("book_id")
+               .from("orders")
+               .where(asName("book_id"), NOT_IN, asList(keys.subList(5, 20)));
+
+            count(in.buildPreparedStatement(conn));
+            count(notIn.buildPreparedStatement(conn));
+            count(in.buildPreparedStatement(conn));
+            assertEquals(1, count(stagedTables(conn)));
+
+            Query both = select("book_id")
+               .from("orders")
+               .where(asName("book_id"), IN, asList(keys))
+               .and(asName("author_id"), NOT_IN, asList(keys));
+
+            count(both.buildPreparedStatement(conn));
+            count(both.buildPreparedStatement(conn));
+            assertEquals(2, count(stagedTables(conn)));
+        } finally {
+            Queryman.setTreeFactory(new ServiceRegister().makeDefaults().treeFactory());
+        }
+    }
+
+    @Test
+    void stagedInListExecutedLater() throws SQLException {
+        ServiceRegister register = new ServiceRegister();
+        register.getMetadataBuilder()
+           .setXmlCfg("")
+           .setPropertiesCfg("")
+           .getMetadata()
+           .addProperty(Settings.IN_LIST_TEMP_TABLE_THRESHOLD, "10");
+
+        Queryman.setTreeFactory(register.make().treeFactory());
+        try (Connection conn = BOOT.getDataSource().getConnection()) {
+            List<Long> first  = new ArrayList<>();
+            List<Long> second = new ArrayList<>();
+            for (long i = 1; i <= 20; i++) {
+                first.add(i);
+                second.add(i + 100);
+            }
+
+            Query in = select(asName("n"))
+               .from(asFunc("generate_series", asConstant(1), asConstant(30)).as("n"))
+               .where(asName("n"), IN, asList(first));
+
+            Query notIn = select(asName("n"))
+               .from(asFunc("generate_series", asConstant(1), asConstant(30)).as("n"))
+               .where(asName("n"), NOT_IN, asList(second));
+
+            try (PreparedStatement a = in.buildPreparedStatement(conn);
+                 PreparedStatement b = notIn.buildPreparedStatement(conn);
+                 PreparedStatement c = in.compile().bind(conn)) {
+                assertEquals(20, rows(a));
+                assertEquals(30, rows(b));
+                assertEquals(20, rows(c));
+                assertEquals(20, rows(a));
+            }
+        } finally {
+            Queryman.setTreeFactory(new ServiceRegister().makeDefaults().treeFactory());
+        }
+    }
+
+    private static int rows(PreparedStatement statement) throws SQLException {
+        int count = 0;
+
+        try (ResultSet rs = statement.executeQuery()) {
+            while (rs.next())
+                count++;
+        }
+
+        return count;
+    }
+
+    private static PreparedStatement stagedTables(Connection conn) throws SQLException {
+        return conn.prepareStatement(
+           "SELECT relname FROM pg_class WHERE relnamespace = pg_my_temp_schema() AND relname LIKE 'queryman\\_keys%'"
+        );
+    }
+
+    private static int count(PreparedStatement statement) throws SQLException {
+        int count = 0;
+
+        try (statement; ResultSet rs = statement.executeQuery()) {
+            while (rs.next())
+                count++;
+        }
+
+        return count;
+    }
 }
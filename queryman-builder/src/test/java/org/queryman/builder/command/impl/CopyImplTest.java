@@ -0,0 +1,198 @@
+package org.queryman.builder.command.impl;
+
+import org.junit.jupiter.api.Test;
+import org.queryman.builder.BaseTest;
+import org.queryman.builder.command.copy.CopyFinalStep;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.queryman.builder.Bootstrap.BOOT;
+import static org.queryman.builder.Queryman.copyInto;
+
+class CopyImplTest extends BaseTest {
+    private static final String[] COLUMNS = {
+       "smallint", "integer", "bigint", "numeric", "real", "double_precision",
+       "varchar", "text", "bytea", "timestamp", "date", "time", "boolean", "uuid"
+    };
+
+    private static final UUID UUID_VALUE = UUID.fromString("a0eebc99-9c0b-4ef8-bb6d-6bb9bd380a11");
+
+    @Test
+    void sql() {
+        assertEquals("COPY book FROM STDIN (FORMAT csv)", copyInto("book").sql());
+        assertEquals(
+           "COPY book (id, name) FROM STDIN (FORMAT binary)",
+           copyInto("book").columns("id", "name").binary().sql()
+        );
+        assertEquals("COPY book (id) FROM STDIN (FORMAT csv)", copyInto("book").columns("id").csv().sql());
+    }
+
+    @Test
+    void copyCsv() throws SQLException {
+        copyTypes(copyInto("types").columns(COLUMNS).csv(), "copy-csv");
+    }
+
+    @Test
+    void copyBinary() throws SQLException {
+        copyTypes(copyInto("types").columns(COLUMNS).binary(), "copy-binary");
+    }
+
+    private static void copyTypes(CopyFinalStep copy, String marker) throws SQLException {
+        List<Object[]> rows = Arrays.asList(
+           new Object[]{
+              (short) 1, 2, 3L, new BigDecimal("-12345.6789"), 5.5f, 6.25d,
+              marker, "a \"quoted\", text\nwith a new line", new byte[]{ 0, 10, (byte) 0xff },
+              Timestamp.valueOf("2018-03-04 10:11:12.123456"), LocalDate.of(2018, 3, 4),
+              Time.valueOf("10:11:12"), true, UUID_VALUE
+           },
+           new Object[]{
+              null, null, null, null, null, null,
+              marker, "", null,
+              null, null,
+              null, null, null
+           }
+        );
+
+        try (Connection conn = BOOT.getDataSource().getConnection()) {
+            assertEquals(2, copy.execute(conn, rows));
+
+            try (Statement statement = conn.createStatement();
+                 ResultSet rs = statement.executeQuery(
+                    "SELECT * FROM types WHERE varchar = '" + marker + "' ORDER BY integer NULLS LAST"
+                 )) {
+
+                assertTrue(rs.next());
+                assertEquals(1, rs.getShort("smallint"));
+                assertEquals(2, rs.getInt("integer"));
+                assertEquals(3L, rs.getLong("bigint"));
+                assertEquals(new BigDecimal("-12345.6789"), rs.getBigDecimal("numeric"));
+                assertEquals(5.5f, rs.getFloat("real"));
+                assertEquals(6.25d, rs.getDouble("double_precision"));
+                assertEquals("a \"quoted\", text\nwith a new line", rs.getString("text"));
+                assertArrayEquals(new byte[]{ 0, 10, (byte) 0xff }, rs.getBytes("bytea"));
+                assertEquals(Timestamp.valueOf("2018-03-04 10:11:12.123456"), rs.getTimestamp("timestamp"));
+                assertEquals("2018-03-04", rs.getString("date"));
+                assertEquals("10:11:12", rs.getString("time"));
+                assertTrue(rs.getBoolean("boolean"));
+                assertEquals(UUID_VALUE, rs.getObject("uuid"));
+
+                assertTrue(rs.next());
+                assertNull(rs.getObject("integer"));
+                assertNull(rs.getObject("numeric"));
+                assertNull(rs.getObject("bytea"));
+                assertEquals("", rs.getString("text"));
+
+                assertFalse(rs.next());
+            }
+
+            try (Statement statement = conn.createStatement()) {
+                statement.execute("DELETE FROM types WHERE varchar = '" + marker + "'");
+            }
+        }
+    }
+
+    @Test
+    void copyBinaryNumericAndTemporal() throws SQLException {
+        List<BigDecimal> numbers = Arrays.asList(
+           BigDecimal.ZERO,
+           new BigDecimal("0.0001"),
+           new BigDecimal("123.4500"),
+           new BigDecimal("100000000"),
+           new BigDecimal("1E+3"),
+           new BigDecimal("-98765432109876543210.0123456789")
+        );
+
+        OffsetDateTime dateTime = OffsetDateTime.of(2018, 3, 4, 10, 11, 12, 345_678_000, ZoneOffset.ofHours(3));
+
+        try (Connection conn = BOOT.getDataSource().getConnection()) {
+            try (Statement statement = conn.createStatement()) {
+                statement.execute("CREATE TEMP TABLE copy_temporal (id int, n numeric, tstz timestamptz, ttz timetz, ts timestamp)");
+                statement.execute("SET TIME ZONE 'UTC'");
+            }
+
+            long count = copyInto("copy_temporal")
+               .binary()
+               .execute(conn, IntStream.range(0, numbers.size()).mapToObj(i -> new Object[]{
+                  i,
+                  numbers.get(i),
+                  dateTime,
+                  OffsetTime.of(10, 11, 12, 0, ZoneOffset.ofHours(3)),
+                  LocalDateTime.of(1999, 12, 31, 23, 59, 59)
+               }));
+            assertEquals(numbers.size(), count);
+
+            try (Statement statement = conn.createStatement();
+                 ResultSet rs = statement.executeQuery("SELECT * FROM copy_temporal ORDER BY id")) {
+
+                for (BigDecimal number : numbers) {
+                    assertTrue(rs.next());
+                    assertEquals(number.scale() < 0 ? number.setScale(0) : number, rs.getBigDecimal("n"));
+                    assertEquals("2018-03-04 07:11:12.345678+00", rs.getString("tstz"));
+                    assertEquals("10:11:12+03", rs.getString("ttz"));
+                    assertEquals("1999-12-31 23:59:59", rs.getString("ts"));
+                }
+                assertFalse(rs.next());
+            }
+
+            try (Statement statement = conn.createStatement()) {
+                statement.execute("DROP TABLE copy_temporal");
+                statement.execute("RESET TIME ZONE");
+            }
+        }
+    }
+
+    @Test
+    void copyManyRows() throws SQLException {
+        try (Connection conn = BOOT.getDataSource().getConnection()) {
+            long count = copyInto("orders")
+               .columns("book_id", "author_id")
+               .binary()
+               .bufferSize(1024)
+               .execute(conn, IntStream.range(0, 100_000).mapToObj(i -> new Object[]{ 600_000L + i, -19L }));
+            assertEquals(100_000, count);
+
+            try (Statement statement = conn.createStatement()) {
+                assertEquals(100_000, statement.executeUpdate("DELETE FROM orders WHERE author_id = -19"));
+            }
+        }
+    }
+
+    @Test
+    void copyInvalidRow() throws SQLException {
+        try (Connection conn = BOOT.getDataSource().getConnection()) {
+            List<Object[]> rows = Arrays.asList(new Object[]{ 1L, -20L }, new Object[]{ 2L });
+
+            Throwable throwable = assertThrows(IllegalArgumentException.class, () ->
+               copyInto("orders").columns("book_id", "author_id").csv().execute(conn, rows)
+            );
+            assertEquals("Row 2 has 1 values, but 2 columns are copied", throwable.getMessage());
+
+            try (Statement statement = conn.createStatement();
+                 ResultSet rs = statement.executeQuery("SELECT count(*) FROM orders WHERE author_id = -20")) {
+                assertTrue(rs.next());
+                assertEquals(0, rs.getInt(1));
+            }
+        }
+    }
+}
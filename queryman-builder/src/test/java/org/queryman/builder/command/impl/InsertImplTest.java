@@ -5,9 +5,15 @@ import org.queryman.builder.BaseTest;
 import org.queryman.builder.Query;
 import org.queryman.builder.Queryman;
 
+import java.sql.Connection;
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.queryman.builder.Bootstrap.BOOT;
 import static org.queryman.builder.Queryman.asConstant;
 import static org.queryman.builder.Queryman.asName;
 import static org.queryman.builder.Queryman.insertInto;
@@ -139,4 +145,46 @@ class InsertImplTest extends BaseTest {
         });
         inBothStatement(query, rs -> { });
     }
-}
\ No newline at end of file
+
+    @Test
+    void insertManyRows() throws SQLException {
+        Query query = insertInto("book")
+           .columns("id", "name")
+           .values(1, "test")
+           .values(2, null)
+           .valuesRows(List.of(new Object[]{3, "a"}, new Object[]{4, "b"}))
+           .onConflict()
+           .doNothing();
+
+        assertEquals("INSERT INTO book (id, name) VALUES (1, 'test'), (2, NULL), (3, 'a'), (4, 'b') ON CONFLICT DO NOTHING", query.sql());
+        assertEquals("INSERT INTO book (id, name) VALUES (?, ?), (?, NULL), (?, ?), (?, ?) ON CONFLICT DO NOTHING", buildPreparedSQL(query));
+        testBindParameters(query, map -> {
+            assertEquals(7, map.size());
+            assertEquals("b", map.get(7).getValue());
+        });
+    }
+
+    @Test
+    void executeInChunks() throws SQLException {
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < 40_000; i++)
+            rows.add(new Object[]{ 800_000 + i, 1 });
+
+        try (Connection conn = BOOT.getDataSource().getConnection()) {
+            long inserted = insertInto("orders")
+               .columns("book_id", "author_id")
+               .valuesRows(rows)
+               .executeInChunks(conn);
+
+            assertEquals(40_000, inserted);
+
+            try (Statement statement = conn.createStatement()) {
+                ResultSet rs = statement.executeQuery("SELECT count(*) FROM orders WHERE book_id >= 800000 AND book_id < 840000");
+                rs.next();
+                assertEquals(40_000, rs.getLong(1));
+
+                statement.execute("DELETE FROM orders WHERE book_id >= 800000 AND book_id < 840000");
+            }
+        }
+    }
+}
@@ -3,14 +3,32 @@ package org.queryman.builder.command.impl;
 import org.junit.jupiter.api.Test;
 import org.queryman.builder.BaseTest;
 import org.queryman.builder.Query;
+import org.queryman.builder.ast.CopyFormat;
+import org.queryman.builder.command.select.SelectFinalStep;
 import org.queryman.builder.command.select.SelectFromStep;
 import org.queryman.builder.command.select.SelectJoinStep;
 import org.queryman.builder.token.Expression;
-
+import org.queryman.builder.token.expression.prepared.ByteExpression;
+import org.queryman.builder.token.expression.prepared.IntegerExpression;
+import org.queryman.builder.token.expression.prepared.LongExpression;
+import org.queryman.builder.token.expression.prepared.ShortExpression;
+import org.queryman.builder.token.expression.prepared.StringExpression;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.Date;
 import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.UUID;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.queryman.builder.Bootstrap.BOOT;
 import static org.queryman.builder.Operators.EQUAL;
 import static org.queryman.builder.Operators.IN;
 import static org.queryman.builder.Operators.LT;
@@ -29,6 +47,7 @@ import static org.queryman.builder.Queryman.fromOnly;
 import static org.queryman.builder.Queryman.max;
 import static org.queryman.builder.Queryman.operator;
 import static org.queryman.builder.Queryman.orderBy;
+import static org.queryman.builder.Queryman.param;
 import static org.queryman.builder.Queryman.select;
 import static org.queryman.builder.Queryman.selectAll;
 import static org.queryman.builder.Queryman.selectDistinct;
@@ -36,6 +55,7 @@ import static org.queryman.builder.Queryman.selectDistinctOn;
 import static org.queryman.builder.Queryman.with;
 import static org.queryman.builder.Queryman.withRecursive;
 import static org.queryman.builder.TestHelper.testBindParameters;
+import static org.queryman.builder.ast.TreeFormatterUtil.buildInlineSQL;
 import static org.queryman.builder.ast.TreeFormatterUtil.buildPreparedSQL;
 
 class SelectImplTest extends BaseTest {
@@ -1500,4 +1520,130 @@ class SelectImplTest extends BaseTest {
         });
         inBothStatement(query, rs -> { });
     }
-}
\ No newline at end of file
+
+    @Test
+    void selectFromWherePrimitive() throws SQLException {
+        Query query = select("id", "name")
+           .from("book")
+           .where("id", "=", 1)
+           .or(condition("id", "=", 2L));
+
+        assertEquals("SELECT id, name FROM book WHERE id = 1 OR id = 2", query.sql());
+        assertEquals("SELECT id, name FROM book WHERE id = ? OR id = ?", buildPreparedSQL(query));
+        testBindParameters(query, map -> {
+            assertEquals(IntegerExpression.class, map.get(1).getClass());
+            assertEquals(LongExpression.class, map.get(2).getClass());
+            assertEquals(2L, ((LongExpression) map.get(2)).getLong());
+        });
+        inBothStatement(query, rs -> { });
+    }
+
+    @Test
+    void copyOut() throws SQLException {
+        SelectFinalStep select = select(asName("n"), asConstant("it's \"quoted\""), asConstant(null))
+           .from(asFunc("generate_series", asConstant(1), asConstant(3)).as("n"))
+           .where("n", "<>", asConstant(2))
+           .orderBy("n");
+
+        try (Connection conn = BOOT.getDataSource().getConnection()) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            assertEquals(2, select.copyOut(conn, out, CopyFormat.CSV));
+            assertEquals(
+               "1,\"it's \"\"quoted\"\"\",\n3,\"it's \"\"quoted\"\"\",\n",
+               new String(out.toByteArray(), StandardCharsets.UTF_8)
+            );
+
+            ByteArrayOutputStream channel = new ByteArrayOutputStream();
+            assertEquals(2, select.copyOut(conn, Channels.newChannel(channel), CopyFormat.CSV));
+            assertArrayEquals(out.toByteArray(), channel.toByteArray());
+
+            ByteArrayOutputStream binary = new ByteArrayOutputStream();
+            assertEquals(2, select.copyOut(conn, binary, CopyFormat.BINARY));
+            assertArrayEquals(
+               "PGCOPY\n\377\r\n\0".getBytes(StandardCharsets.ISO_8859_1),
+               Arrays.copyOf(binary.toByteArray(), 11)
+            );
+        }
+    }
+
+    @Test
+    void copyOutLiterals() throws SQLException {
+        SelectFinalStep select = select(
+           asConstant(new byte[]{ 0, 10, -1 }),
+           asConstant(Date.valueOf("2019-01-02")),
+           asConstant(LocalDateTime.of(2019, 1, 2, 3, 4)),
+           asConstant(UUID.fromString("5f0c6b4e-1f2a-4a55-9a3e-2f8d0b1c7e11")),
+           asConstant(Double.NaN),
+           asConstant(new int[]{ 1, 2 }),
+           asSubQuery(select(asConstant(LocalDate.of(2019, 1, 2))))
+        );
+
+        assertEquals("SELECT '\\x000aff'::bytea, '2019-01-02'::date, '2019-01-02T03:04'::timestamp, "
+           + "'5f0c6b4e-1f2a-4a55-9a3e-2f8d0b1c7e11'::uuid, 'NaN'::double precision, '{1, 2}'::int4[], "
+           + "(SELECT '2019-01-02'::date)", buildInlineSQL(select));
+
+        try (Connection conn = BOOT.getDataSource().getConnection()) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            assertEquals(1, select.copyOut(conn, out, CopyFormat.CSV));
+            assertEquals(
+               "\\x000aff,2019-01-02,2019-01-02 03:04:00,5f0c6b4e-1f2a-4a55-9a3e-2f8d0b1c7e11,NaN,\"{1,2}\",2019-01-02\n",
+               new String(out.toByteArray(), StandardCharsets.UTF_8)
+            );
+        }
+    }
+
+    @Test
+    void copyOutParameter() throws SQLException {
+        SelectFinalStep select = select("id").from("book").where("id", "=", param("id"));
+
+        try (Connection conn = BOOT.getDataSource().getConnection()) {
+            Throwable throwable = assertThrows(IllegalStateException.class, () ->
+               select.copyOut(conn, new ByteArrayOutputStream(), CopyFormat.CSV)
+            );
+            assertEquals("Parameter :id cannot be rendered as a literal", throwable.getMessage());
+        }
+    }
+
+    @Test
+    void selectFromWhereNarrowPrimitive() throws SQLException {
+        Query query = select("id", "name")
+           .from("book")
+           .where("name", "=", 'a')
+           .or(condition("name", "=", 'b'));
+
+        assertEquals("SELECT id, name FROM book WHERE name = 'a' OR name = 'b'", query.sql());
+        testBindParameters(query, map -> {
+            assertEquals(StringExpression.class, map.get(1).getClass());
+            assertEquals("a", map.get(1).getValue());
+            assertEquals("b", map.get(2).getValue());
+        });
+        inBothStatement(query, rs -> { });
+
+        query = select("id", "name")
+           .from("book")
+           .where("id", "=", (short) 1)
+           .or(condition("id", "=", (short) 2))
+           .or("id", "=", (byte) 3)
+           .or(condition("id", "=", (byte) 4));
+
+        assertEquals("SELECT id, name FROM book WHERE id = 1 OR id = 2 OR id = 3 OR id = 4", query.sql());
+        testBindParameters(query, map -> {
+            assertEquals(ShortExpression.class, map.get(1).getClass());
+            assertEquals(ShortExpression.class, map.get(2).getClass());
+            assertEquals(ByteExpression.class, map.get(3).getClass());
+            assertEquals(ByteExpression.class, map.get(4).getClass());
+        });
+        inBothStatement(query, rs -> { });
+
+        query = select("id", "name")
+           .from("book")
+           .where("id", "=", (byte) 1)
+           .and(condition("id", "=", (short) 1));
+
+        assertEquals("SELECT id, name FROM book WHERE id = 1 AND id = 1", query.sql());
+        testBindParameters(query, map -> {
+            assertEquals(ByteExpression.class, map.get(1).getClass());
+            assertEquals(ShortExpression.class, map.get(2).getClass());
+        });
+    }
+}
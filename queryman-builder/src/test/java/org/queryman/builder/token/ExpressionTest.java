@@ -13,7 +13,9 @@ import org.queryman.builder.token.expression.prepared.DoubleExpression;
 import org.queryman.builder.token.expression.prepared.FloatExpression;
 import org.queryman.builder.token.expression.prepared.IntegerExpression;
 import org.queryman.builder.token.expression.prepared.LongExpression;
+import org.queryman.builder.token.expression.prepared.PrimitiveArrayExpression;
 import org.queryman.builder.token.expression.prepared.ShortExpression;
+import org.queryman.builder.token.expression.prepared.StringExpression;
 import org.queryman.builder.token.expression.prepared.TimeExpression;
 import org.queryman.builder.token.expression.prepared.TimestampExpression;
 
@@ -23,10 +25,15 @@ import java.sql.Timestamp;
 import java.text.SimpleDateFormat;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.queryman.builder.Queryman.all;
 import static org.queryman.builder.Queryman.any;
@@ -127,6 +134,30 @@ class ExpressionTest {
         assertEquals("ARRAY[1, 2, 3]", asConstant(b1).getName());
         assertArrayEquals(b1, ( Byte[])((PreparedExpression) asConstant(b1)).getValue());
         assertTrue(asConstant(b1) instanceof BytesExpression);
+
+        assertSame(b, ((BytesExpression) asConstant(b)).getBytes());
+    }
+
+    @Test
+    void constantPrimitiveArrayExpression() {
+        int[]    i = { 1, 2, 3 };
+        long[]   l = { 1, 2 };
+        double[] d = { 1.5, 2 };
+        float[]  f = { 0.5f };
+        short[]  s = {};
+
+        assertEquals("ARRAY[1, 2, 3]", asConstant(i).getName());
+        assertEquals("?", ((PreparedExpression) asConstant(i)).getPlaceholder());
+        assertSame(i, ((PrimitiveArrayExpression) asConstant(i)).getArray());
+        assertArrayEquals(new Object[]{ 1, 2, 3 }, (Object[]) ((PreparedExpression) asConstant(i)).getValue());
+
+        assertEquals("ARRAY[1, 2]", asConstant(l).getName());
+        assertEquals("ARRAY[1.5, 2.0]", asConstant(d).getName());
+        assertEquals("ARRAY[0.5]", asConstant(f).getName());
+        assertEquals("ARRAY[]", asConstant(s).getName());
+
+        assertEquals("int8", ((PrimitiveArrayExpression) asConstant(l)).getTypeName());
+        assertEquals("float8", ((PrimitiveArrayExpression) asConstant(d)).getTypeName());
     }
 
     @Test
@@ -152,6 +183,11 @@ class ExpressionTest {
         assertEquals("$name$I'm Timur$name$", asDollarString("I'm Timur", "name").getName());
         assertEquals("?", ((PreparedExpression) asDollarString("I'm Timur", "name")).getPlaceholder());
         assertEquals("I'm Timur", ((PreparedExpression) asDollarString("I'm Timur", "name")).getValue());
+
+        assertEquals("$_0$a$$_0$", asDollarString("a$").getName());
+        assertEquals("$_1$$_0$$$_1$", asDollarString("$_0$$").getName());
+        assertEquals("$t_0$x$t$t_0$", asDollarString("x$t", "t").getName());
+        assertEquals("$t_0$$t$x$t_0$", asDollarString("$t$x", "t").getName());
     }
 
     @Test
@@ -495,4 +531,91 @@ class ExpressionTest {
         });
 
     }
-}
\ No newline at end of file
+
+    @Test
+    void memoizedName() {
+        Expression name = asQuotedName("table.id");
+        assertEquals("\"table\".\"id\"", name.getName());
+        assertSame(name.getName(), name.getName());
+
+        name.cast("int");
+        assertEquals("\"table\".\"id\"::int", name.getName());
+
+        name.as("t", "a", "b");
+        assertEquals("\"table\".\"id\"::int AS t(a, b)", name.getName());
+        assertSame(name.getName(), name.getName());
+
+        PreparedExpression constant = (PreparedExpression) asConstant(1);
+        assertEquals("?", constant.getPlaceholder());
+
+        constant.cast("bigint");
+        assertEquals("?::bigint", constant.getPlaceholder());
+        assertSame(constant.getPlaceholder(), constant.getPlaceholder());
+
+        assertEquals("a.b", asName("a.b..").getName());
+        assertEquals("\"a\".\"\".\"b\"", asQuotedName("a..b").getName());
+    }
+
+    @Test
+    void escaping() {
+        assertEquals("'Timur'", asConstant("Timur").getName());
+        assertEquals("'''a'' ''''b'''", asConstant("'a' ''b'").getName());
+
+        assertEquals("\"book\"", asQuotedName("book").getName());
+        assertEquals("\"my\"\"book\".\"id\"", asQuotedName("my\"book.id").getName());
+        assertEquals("\"public\".\"book\"", asQuotedName("public.book.").getName());
+
+        assertEquals("$$a$b$$", asDollarString("a$b").getName());
+        assertEquals("$_0$a$$b$_0$", asDollarString("a$$b").getName());
+        assertEquals("$t_1$a$t$ $t_0$$t_1$", asDollarString("a$t$ $t_0$", "t").getName());
+        assertEquals("$t_0$$t$ $t_1$$t_0$", asDollarString("$t$ $t_1$", "t").getName());
+        assertEquals("$t_0$$t$ $t_01$$t_0$", asDollarString("$t$ $t_01$", "t").getName());
+        assertEquals("$t_1$$t$ $t_0$t_1$", asDollarString("$t$ $t_0", "t").getName());
+    }
+
+    @Test
+    void customConstantFactory() {
+        ConstantFactories.register(Map.class, map -> asConstant(json(map)).cast("jsonb"));
+
+        try {
+            assertEquals("'{\"a\": 1}'::jsonb", asConstant(Map.of("a", 1)).getName());
+        } finally {
+            ConstantFactories.unregister(Map.class);
+        }
+
+        assertThrows(IllegalArgumentException.class, () -> asConstant(Map.of("a", 1)));
+
+        assertEquals("'SECONDS'", asConstant(TimeUnit.SECONDS).getName());
+        assertEquals("ARRAY[1, 2]", asConstant((Object) new Integer[]{ 1, 2 }).getName());
+
+        Expression name = asName("id");
+        assertSame(name, asConstant(name));
+        assertThrows(IllegalArgumentException.class, () -> asConstant(new Object()));
+    }
+
+    private static String json(Map<?, ?> map) {
+        return map.entrySet()
+           .stream()
+           .map(e -> "\"" + e.getKey() + "\": " + e.getValue())
+           .collect(Collectors.joining(", ", "{", "}"));
+    }
+
+    @Test
+    void primitiveConstants() {
+        IntegerExpression integer = (IntegerExpression) asConstant(Integer.MIN_VALUE);
+        assertEquals(Integer.MIN_VALUE, integer.getInt());
+        assertEquals("-2147483648", integer.getName());
+        assertTrue(integer.isNonEmpty());
+
+        LongExpression bigint = (LongExpression) asConstant(Long.MAX_VALUE);
+        assertEquals(Long.MAX_VALUE, bigint.getLong());
+        assertEquals("9223372036854775807::bigint", bigint.cast("bigint").getName());
+
+        DoubleExpression real = (DoubleExpression) asConstant(0.25);
+        assertEquals(0.25, real.getDouble());
+        assertEquals("0.25", real.getName());
+
+        assertTrue(asConstant('c') instanceof StringExpression);
+        assertEquals("'c'", asConstant('c').getName());
+    }
+}